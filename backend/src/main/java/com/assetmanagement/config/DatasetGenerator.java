@@ -0,0 +1,238 @@
+package com.assetmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.postgresql.core.BaseConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seeds a large synthetic dataset (see {@link SyntheticDataset}) on startup
+ * under the {@code generate} profile, streaming rows into PostgreSQL with
+ * {@code COPY} from several connections at once. Runs before the application
+ * is ready, so the dashboard counters and search index are built over the
+ * generated data.
+ *
+ * <p>Generation is skipped when the first generated asset id already exists.
+ * Each chunk commits on its own; after a failed run, start again from an empty
+ * database.
+ */
+@Slf4j
+@Component
+@Profile("generate")
+public class DatasetGenerator implements CommandLineRunner {
+    private static final int USER_CHUNK = 50_000;
+    private static final int ASSET_CHUNK = 20_000;
+    private static final int COPY_BUFFER = 1 << 16;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final long seed;
+    private final int departments;
+    private final int users;
+    private final long assets;
+    private final double historyPerAsset;
+    private final double skew;
+    private final String asOf;
+    private final String idPrefix;
+    private final int threads;
+
+    public DatasetGenerator(DataSource dataSource,
+                            JdbcTemplate jdbcTemplate,
+                            EntityManagerFactory entityManagerFactory,
+                            @Value("${dataset.seed:42}") long seed,
+                            @Value("${dataset.departments:50}") int departments,
+                            @Value("${dataset.users:50000}") int users,
+                            @Value("${dataset.assets:1000000}") long assets,
+                            @Value("${dataset.history-per-asset:20}") double historyPerAsset,
+                            @Value("${dataset.skew:0.6}") double skew,
+                            @Value("${dataset.as-of:}") String asOf,
+                            @Value("${dataset.id-prefix:GEN-}") String idPrefix,
+                            @Value("${dataset.threads:0}") int threads) {
+        if (departments < 1 && users > 0) {
+            throw new IllegalArgumentException("dataset.departments must be at least 1 when generating users");
+        }
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.seed = seed;
+        this.departments = departments;
+        this.users = users;
+        this.assets = assets;
+        this.historyPerAsset = historyPerAsset;
+        this.skew = skew;
+        this.asOf = asOf;
+        this.idPrefix = idPrefix;
+        this.threads = threads;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        SyntheticDataset dataset = SyntheticDataset.builder()
+                .seed(seed)
+                .departments(departments)
+                .users(users)
+                .assets(assets)
+                .historyPerAsset(historyPerAsset)
+                .skew(skew)
+                .asOf(asOf.isBlank() ? LocalDate.now() : LocalDate.parse(asOf))
+                .idPrefix(idPrefix)
+                .departmentIdBase(maxId("SELECT COALESCE(MAX(id), 0) FROM departments"))
+                .userIdBase(maxId("SELECT COALESCE(MAX(id), 0) FROM users"))
+                .build();
+        if (assets > 0 && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM assets WHERE asset_id = ?)", Boolean.class, dataset.assetId(0)))) {
+            log.info("Dataset with asset id prefix '{}' already present; not generating", idPrefix);
+            return;
+        }
+
+        // History ids are allocated per chunk up front, so chunks can be written in any order.
+        long historyIdBase = maxId("SELECT GREATEST((SELECT COALESCE(MAX(id), 0) FROM asset_history), "
+                + "(SELECT last_value FROM asset_history_seq))");
+        List<long[]> assetChunks = new ArrayList<>();
+        long nextHistoryId = historyIdBase + 1;
+        for (long from = 0; from < assets; from += ASSET_CHUNK) {
+            long to = Math.min(from + ASSET_CHUNK, assets);
+            assetChunks.add(new long[]{from, to, nextHistoryId});
+            for (long asset = from; asset < to; asset++) {
+                nextHistoryId += dataset.historyCount(asset);
+            }
+        }
+        long historyRows = nextHistoryId - historyIdBase - 1;
+
+        int workers = workers();
+        log.info("Generating {} departments, {} users, {} assets and {} history rows with seed {} on {} connections",
+                departments, users, assets, historyRows, seed, workers);
+        long started = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("dataset-"));
+        try {
+            AtomicLong rows = new AtomicLong();
+            await(List.of(pool.submit(() -> copy(rows, connection ->
+                    copy(connection, SyntheticDataset.DEPARTMENTS_COPY, dataset::writeDepartments)))));
+
+            List<Future<?>> userChunks = new ArrayList<>();
+            for (int from = 0; from < users; from += USER_CHUNK) {
+                int start = from;
+                int end = Math.min(from + USER_CHUNK, users);
+                userChunks.add(pool.submit(() -> copy(rows, connection ->
+                        copy(connection, SyntheticDataset.USERS_COPY, out -> dataset.writeUsers(start, end, out)))));
+            }
+            await(userChunks);
+
+            List<Future<?>> chunks = new ArrayList<>();
+            for (long[] chunk : assetChunks) {
+                chunks.add(pool.submit(() -> copy(rows, connection ->
+                        copy(connection, SyntheticDataset.ASSETS_COPY,
+                                out -> dataset.writeAssets(chunk[0], chunk[1], out))
+                        + copy(connection, SyntheticDataset.HISTORY_COPY,
+                                out -> dataset.writeHistory(chunk[0], chunk[1], chunk[2], out)))));
+            }
+            await(chunks);
+
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+            log.info("Copied {} rows in {} s ({} rows/s)", rows.get(), elapsed.toSeconds(),
+                    rows.get() * 1000 / Math.max(elapsed.toMillis(), 1));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Let the application's own inserts carry on after the generated ids.
+        jdbcTemplate.execute("SELECT setval(pg_get_serial_sequence('departments', 'id'), "
+                + "(SELECT COALESCE(MAX(id), 1) FROM departments))");
+        jdbcTemplate.execute("SELECT setval(pg_get_serial_sequence('users', 'id'), "
+                + "(SELECT COALESCE(MAX(id), 1) FROM users))");
+        if (historyRows > 0) {
+            jdbcTemplate.execute("SELECT setval('asset_history_seq', " + (historyIdBase + historyRows) + ")");
+        }
+        jdbcTemplate.execute("ANALYZE departments, users, assets, asset_history");
+        // COPY bypasses Hibernate, so cached user and department queries would miss the new rows.
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        log.info("Dataset generated in {} s", Duration.ofNanos(System.nanoTime() - started).toSeconds());
+    }
+
+    // One connection and one transaction per chunk.
+    private long copy(AtomicLong rows, CopyTask task) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                long copied = task.copy(connection.unwrap(BaseConnection.class));
+                connection.commit();
+                rows.addAndGet(copied);
+                return copied;
+            } catch (Exception e) {
+                connection.rollback();
+                throw e instanceof SQLException sql ? sql : new SQLException("COPY failed", e);
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private static long copy(BaseConnection connection, String sql, RowWriter rows) throws Exception {
+        PGCopyOutputStream stream = new PGCopyOutputStream(connection, sql, COPY_BUFFER);
+        try {
+            Writer out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), COPY_BUFFER);
+            rows.write(out);
+            out.flush();
+            return stream.endCopy();
+        } finally {
+            if (stream.isActive()) {
+                stream.cancelCopy();
+            }
+        }
+    }
+
+    private int workers() throws SQLException {
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        // Every worker holds a connection for a whole chunk; more than the pool would time out waiting.
+        if (dataSource.isWrapperFor(HikariDataSource.class)) {
+            workers = Math.min(workers, dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize());
+        }
+        return Math.max(workers, 1);
+    }
+
+    private long maxId(String sql) {
+        return Objects.requireNonNull(jdbcTemplate.queryForObject(sql, Long.class));
+    }
+
+    private static void await(List<Future<?>> futures) throws Exception {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    private interface CopyTask {
+        long copy(BaseConnection connection) throws Exception;
+    }
+
+    private interface RowWriter {
+        void write(Writer out) throws Exception;
+    }
+}
@@ -0,0 +1,66 @@
+package com.assetmanagement.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+/**
+ * Metrics published on {@code /actuator/prometheus}. Every controller method is
+ * timed by Spring MVC as {@code http.server.requests}, tagged with its URI
+ * template; {@code @Timed} service classes are timed per method. The asset
+ * endpoints and {@code asset.service} publish fine-grained histogram buckets,
+ * so their latency percentiles can be aggregated across instances and used
+ * for SLOs.
+ */
+@Configuration
+public class MetricsConfig {
+    private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+    private static final String ASSET_SERVICE = "asset.service";
+    private static final String ASSET_ENDPOINTS = "/api/assets";
+
+    // Bounded so each timer publishes a few dozen buckets, not the default 276.
+    private static final DistributionStatisticConfig LATENCY_HISTOGRAM = DistributionStatisticConfig.builder()
+            .percentilesHistogram(true)
+            .minimumExpectedValue(nanos(Duration.ofMillis(1)))
+            .maximumExpectedValue(nanos(Duration.ofSeconds(10)))
+            .build();
+
+    // Prometheus needs every series of a metric to be of one type, so the other
+    // endpoints are histograms too, with a handful of buckets.
+    private static final DistributionStatisticConfig COARSE_HISTOGRAM = DistributionStatisticConfig.builder()
+            .serviceLevelObjectives(nanos(Duration.ofMillis(100)), nanos(Duration.ofMillis(500)),
+                    nanos(Duration.ofSeconds(2)))
+            .build();
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public MeterFilter latencyHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getName().equals(ASSET_SERVICE)) {
+                    return LATENCY_HISTOGRAM.merge(config);
+                }
+                if (id.getName().equals(HTTP_SERVER_REQUESTS)) {
+                    String uri = id.getTag("uri");
+                    return (uri != null && uri.startsWith(ASSET_ENDPOINTS) ? LATENCY_HISTOGRAM : COARSE_HISTOGRAM)
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+
+    private static double nanos(Duration duration) {
+        return duration.toNanos();
+    }
+}
@@ -1,9 +1,13 @@
 package com.assetmanagement.config;
 
+import com.assetmanagement.controller.AssetController;
 import com.assetmanagement.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -37,6 +41,10 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()
+                        // Only these are exposed; the docker profile serves them on the internal management port.
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                        // Completion of a streamed response (export, event stream) that was authorized on entry.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session
@@ -48,14 +56,19 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // The only CORS configuration: this filter answers preflights and sets the CORS
+    // headers before Spring MVC's own CORS handling is reached.
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(Arrays.asList(
             "http://localhost:5173"
         ));
-        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList(
+            AssetController.NEXT_CURSOR_HEADER, AssetController.TOTAL_COUNT_HEADER, HttpHeaders.ETAG
+        ));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
         
@@ -0,0 +1,302 @@
+package com.assetmanagement.config;
+
+import com.assetmanagement.model.AssetCategory;
+import com.assetmanagement.model.AssetStatus;
+import lombok.Builder;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+
+/**
+ * The rows of a synthetic dataset, written as PostgreSQL {@code COPY} CSV.
+ * Every row is derived from the seed and its own index alone, so any range can
+ * be written by any thread and the dataset does not depend on how the work was
+ * split.
+ *
+ * <p>{@code skew} shapes the data: at 0 assets are spread evenly over users,
+ * users over departments, and every asset has {@code historyPerAsset} history
+ * entries; towards 1 a few users and departments hold most assets, and a few
+ * assets most of the history, with the averages unchanged.
+ */
+@Builder
+final class SyntheticDataset {
+    private static final long USER_STREAM = 1;
+    private static final long ASSET_STREAM = 2;
+    private static final long HISTORY_STREAM = 3;
+    private static final double MAX_SKEW = 0.95;
+    // Caps the long tail; the heaviest assets get this many times the average.
+    private static final int MAX_HISTORY_FACTOR = 50;
+    private static final int PURCHASE_WINDOW_DAYS = 6 * 365;
+
+    private static final String[] DEPARTMENTS = {
+            "Engineering", "Marketing", "Sales", "IT", "HR", "Finance", "Operations", "Legal", "Support", "Research"
+    };
+    private static final String[] FIRST_NAMES = {
+            "Alice", "Bob", "Charlie", "Diana", "Ethan", "Fatima", "George", "Hannah", "Ivan", "Julia",
+            "Kenji", "Laura", "Mohammed", "Nina", "Oscar", "Priya", "Quentin", "Rosa", "Samuel", "Tara",
+            "Umar", "Valeria", "William", "Xin", "Yusuf", "Zoe", "Amir", "Beatriz", "Carlos", "Dmitri"
+    };
+    private static final String[] LAST_NAMES = {
+            "Johnson", "Williams", "Brown", "Miller", "Garcia", "Martinez", "Nguyen", "Kim", "Patel", "Smith",
+            "Rossi", "Müller", "Dubois", "Kowalski", "Tanaka", "Silva", "Haddad", "O'Brien", "Andersen", "Novak"
+    };
+    // Catalog entries per category: vendor, model, specs.
+    private static final String[][][] CATALOG = new String[AssetCategory.values().length][][];
+
+    static {
+        catalog(AssetCategory.LAPTOP,
+                "Apple Inc.", "MacBook Pro 16\"", "Apple M2 Pro, 16GB RAM, 512GB SSD",
+                "Lenovo", "Lenovo ThinkPad X1 Carbon", "Intel Core i7, 16GB RAM, 1TB SSD",
+                "Dell Technologies", "Dell Latitude 7440", "Intel Core i5, 16GB RAM, 512GB SSD");
+        catalog(AssetCategory.DESKTOP,
+                "Dell Technologies", "Dell OptiPlex 7010", "Intel Core i7, 32GB RAM, 1TB SSD",
+                "HP Inc.", "HP EliteDesk 800 G9", "Intel Core i5, 16GB RAM, 512GB SSD");
+        catalog(AssetCategory.MONITOR,
+                "Dell Technologies", "Dell UltraSharp 27\"", "27-inch 4K UHD (3840 x 2160), IPS",
+                "LG Electronics", "LG 34WN80C", "34-inch UltraWide QHD, USB-C");
+        catalog(AssetCategory.PHONE,
+                "Apple Inc.", "iPhone 14", "A15 Bionic chip, 256GB Storage",
+                "Samsung", "Galaxy S23", "Snapdragon 8 Gen 2, 128GB Storage");
+        catalog(AssetCategory.TABLET,
+                "Apple Inc.", "iPad Air", "M1 chip, 64GB Storage, Wi-Fi",
+                "Samsung", "Galaxy Tab S9", "Snapdragon 8 Gen 2, 128GB Storage");
+        catalog(AssetCategory.KEYBOARD,
+                "Logitech", "Logitech MX Keys", "Wireless, Backlit, USB-C Charging");
+        catalog(AssetCategory.MOUSE,
+                "Logitech", "Logitech MX Master 3", "Wireless, 8000 DPI, USB-C Charging");
+        catalog(AssetCategory.PRINTER,
+                "HP Inc.", "HP LaserJet Pro M404", "Monochrome laser, 40 ppm, Ethernet");
+        catalog(AssetCategory.SERVER,
+                "Dell Technologies", "Dell PowerEdge R750", "2x Xeon Gold 6338, 512GB RAM, 8x 3.84TB NVMe");
+        catalog(AssetCategory.NETWORK_DEVICE,
+                "Cisco", "Cisco Catalyst 9300", "48-port PoE+, 4x 10G uplinks");
+        catalog(AssetCategory.OTHER,
+                "Anker", "Anker USB-C Dock", "12-in-1, 100W Power Delivery");
+    }
+
+    // Relative frequency of each category, in AssetCategory order.
+    private static final int[] CATEGORY_WEIGHTS = {30, 8, 25, 12, 5, 5, 5, 2, 1, 2, 5};
+    private static final String[] NOTES = {
+            "Assigned for design work.", "Ready for assignment", "Battery replaced", "Screen has minor scratches",
+            "Loaner device", "Includes docking station", "Pending OS upgrade"
+    };
+
+    private final long seed;
+    private final int departments;
+    private final int users;
+    private final long assets;
+    private final double historyPerAsset;
+    private final double skew;
+    private final LocalDate asOf;
+    private final String idPrefix;
+    // Ids of the generated rows start after these, so they never collide with existing ones.
+    private final long departmentIdBase;
+    private final long userIdBase;
+
+    static final String DEPARTMENTS_COPY = "COPY departments (id, name) FROM STDIN (FORMAT csv)";
+    static final String USERS_COPY = "COPY users (id, name, email, department_id) FROM STDIN (FORMAT csv)";
+    static final String ASSETS_COPY = "COPY assets (asset_id, name, category, status, purchase_date, assigned_to, "
+            + "notes, vendor, warranty_expiry, specs, version, change_seq, updated_at) FROM STDIN (FORMAT csv)";
+    static final String HISTORY_COPY = "COPY asset_history (id, asset_id, date, status, user_id, notes) "
+            + "FROM STDIN (FORMAT csv)";
+
+    String assetId(long asset) {
+        return idPrefix + String.format("%07d", asset + 1);
+    }
+
+    void writeDepartments(Appendable out) throws IOException {
+        for (int department = 0; department < departments; department++) {
+            Row row = new Row(out);
+            row.value(departmentIdBase + department + 1);
+            row.text(DEPARTMENTS[department % DEPARTMENTS.length] + " " + (department / DEPARTMENTS.length + 1));
+            row.end();
+        }
+    }
+
+    void writeUsers(int from, int to, Appendable out) throws IOException {
+        for (int user = from; user < to; user++) {
+            SplittableRandom random = random(USER_STREAM, user);
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            Row row = new Row(out);
+            row.value(userIdBase + user + 1);
+            row.text(first + " " + last);
+            row.text((first + "." + last.replace("'", "")).toLowerCase() + "." + (user + 1) + "@example.com");
+            row.value(departmentIdBase + skewed(random, departments) + 1);
+            row.end();
+        }
+    }
+
+    void writeAssets(long from, long to, Appendable out) throws IOException {
+        for (long asset = from; asset < to; asset++) {
+            AssetRow generated = asset(asset);
+            Row row = new Row(out);
+            row.text(assetId(asset));
+            row.text(generated.model[1]);
+            row.value(generated.category.name());
+            row.value(generated.status.name());
+            row.value(generated.purchaseDate);
+            row.value(generated.assignedTo);
+            row.text(generated.notes);
+            row.text(generated.model[0]);
+            row.value(generated.warrantyExpiry);
+            row.text(generated.model[2]);
+            row.value(0);
+            // Like assets that predate the change feed.
+            row.value(0);
+            row.value(asOf.atStartOfDay());
+            row.end();
+        }
+    }
+
+    /** Writes the history of assets {@code [from, to)}, numbering entries from {@code firstId}. */
+    void writeHistory(long from, long to, long firstId, Appendable out) throws IOException {
+        long id = firstId;
+        for (long asset = from; asset < to; asset++) {
+            AssetRow generated = asset(asset);
+            SplittableRandom random = random(HISTORY_STREAM, asset);
+            int entries = historyCount(random);
+            long span = Math.max(ChronoUnit.DAYS.between(generated.purchaseDate, asOf), 1);
+            for (int entry = 0; entry < entries; entry++) {
+                // The first entry records the purchase and the last the current status.
+                AssetStatus status = entry == 0 ? AssetStatus.IN_STORAGE
+                        : entry == entries - 1 ? generated.status
+                        : AssetStatus.values()[random.nextInt(AssetStatus.values().length)];
+                Long user = status != AssetStatus.IN_USE || users == 0 ? null
+                        : entry == entries - 1 ? generated.assignedTo
+                        : userIdBase + skewed(random, users) + 1;
+                Row row = new Row(out);
+                row.value(id++);
+                row.text(assetId(asset));
+                row.value(generated.purchaseDate.plusDays(span * entry / entries));
+                row.value(status.name());
+                row.value(user);
+                row.text(entry == 0 ? "Purchased" : historyNote(status));
+                row.end();
+            }
+        }
+    }
+
+    /** The number of history entries asset {@code asset} gets. */
+    int historyCount(long asset) {
+        return historyCount(random(HISTORY_STREAM, asset));
+    }
+
+    private int historyCount(SplittableRandom random) {
+        // Pareto-shaped around the average: u^-s has mean 1 / (1 - s) for u uniform in (0, 1].
+        double skew = skew();
+        double draw = historyPerAsset * (1 - skew) * Math.pow(1 - random.nextDouble(), -skew);
+        return (int) Math.round(Math.min(draw, historyPerAsset * MAX_HISTORY_FACTOR));
+    }
+
+    private AssetRow asset(long asset) {
+        SplittableRandom random = random(ASSET_STREAM, asset);
+        AssetCategory category = weightedCategory(random);
+        String[][] models = CATALOG[category.ordinal()];
+        AssetRow row = new AssetRow();
+        row.category = category;
+        row.model = models[random.nextInt(models.length)];
+        int status = random.nextInt(100);
+        row.status = status < 65 ? AssetStatus.IN_USE
+                : status < 80 ? AssetStatus.IN_STORAGE
+                : status < 85 ? AssetStatus.IN_REPAIR
+                : AssetStatus.DECOMMISSIONED;
+        row.purchaseDate = asOf.minusDays(random.nextInt(PURCHASE_WINDOW_DAYS));
+        row.warrantyExpiry = row.purchaseDate.plusYears(new int[]{1, 2, 3, 5}[random.nextInt(4)]).minusDays(1);
+        boolean assigned = row.status == AssetStatus.IN_USE || row.status == AssetStatus.IN_REPAIR;
+        row.assignedTo = assigned && users > 0 ? userIdBase + skewed(random, users) + 1 : null;
+        row.notes = random.nextInt(10) < 3 ? NOTES[random.nextInt(NOTES.length)] : null;
+        return row;
+    }
+
+    // An index in [0, n): uniform at skew 0, increasingly biased towards 0 as skew grows.
+    private int skewed(SplittableRandom random, int n) {
+        return (int) Math.min(n * Math.pow(random.nextDouble(), 1 / (1 - skew())), n - 1);
+    }
+
+    private double skew() {
+        return Math.max(0, Math.min(skew, MAX_SKEW));
+    }
+
+    private SplittableRandom random(long stream, long index) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + stream * 0xBF58476D1CE4E5B9L + index);
+    }
+
+    private static AssetCategory weightedCategory(SplittableRandom random) {
+        int total = 0;
+        for (int weight : CATEGORY_WEIGHTS) {
+            total += weight;
+        }
+        int pick = random.nextInt(total);
+        for (AssetCategory category : AssetCategory.values()) {
+            pick -= CATEGORY_WEIGHTS[category.ordinal()];
+            if (pick < 0) {
+                return category;
+            }
+        }
+        return AssetCategory.OTHER;
+    }
+
+    private static String historyNote(AssetStatus status) {
+        return switch (status) {
+            case IN_USE -> "Assigned to user";
+            case IN_STORAGE -> "Returned to storage";
+            case IN_REPAIR -> "Sent for repair";
+            case DECOMMISSIONED -> "Decommissioned";
+        };
+    }
+
+    private static void catalog(AssetCategory category, String... entries) {
+        String[][] models = new String[entries.length / 3][];
+        for (int i = 0; i < models.length; i++) {
+            models[i] = new String[]{entries[3 * i], entries[3 * i + 1], entries[3 * i + 2]};
+        }
+        CATALOG[category.ordinal()] = models;
+    }
+
+    private static final class AssetRow {
+        private AssetCategory category;
+        private String[] model;
+        private AssetStatus status;
+        private LocalDate purchaseDate;
+        private LocalDate warrantyExpiry;
+        private Long assignedTo;
+        private String notes;
+    }
+
+    // One CSV line; an unquoted empty field is NULL to COPY.
+    private static final class Row {
+        private final Appendable out;
+        private boolean first = true;
+
+        private Row(Appendable out) {
+            this.out = out;
+        }
+
+        void value(Object value) throws IOException {
+            separate();
+            if (value != null) {
+                out.append(value.toString());
+            }
+        }
+
+        void text(String value) throws IOException {
+            separate();
+            if (value != null) {
+                out.append('"').append(value.replace("\"", "\"\"")).append('"');
+            }
+        }
+
+        void end() throws IOException {
+            out.append('\n');
+        }
+
+        private void separate() throws IOException {
+            if (!first) {
+                out.append(',');
+            }
+            first = false;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -22,7 +23,7 @@ public class AdminController {
     }
 
     @PutMapping("/profile")
-    public ResponseEntity<Admin> updateProfile(@Valid @RequestBody AdminUpdateDTO updateDTO) {
-        return ResponseEntity.ok(adminService.updateCurrentAdmin(updateDTO));
+    public CompletableFuture<ResponseEntity<Admin>> updateProfile(@Valid @RequestBody AdminUpdateDTO updateDTO) {
+        return adminService.updateCurrentAdmin(updateDTO).thenApply(ResponseEntity::ok);
     }
 }
\ No newline at end of file
@@ -1,13 +1,43 @@
 package com.assetmanagement.controller;
 
+import com.assetmanagement.dto.AssetBatchResponse;
+import com.assetmanagement.dto.AssetBulkDeleteResponse;
+import com.assetmanagement.dto.AssetBulkTransitionRequest;
+import com.assetmanagement.dto.AssetBulkTransitionResponse;
+import com.assetmanagement.dto.AssetChangesDTO;
 import com.assetmanagement.dto.AssetDTO;
+import com.assetmanagement.dto.AssetHistoryDTO;
+import com.assetmanagement.dto.AssetPageRequest;
+import com.assetmanagement.dto.AssetStatsDTO;
+import com.assetmanagement.dto.AssetSummaryDTO;
+import com.assetmanagement.dto.CursorPage;
+import com.assetmanagement.dto.WarrantyAlertDTO;
+import com.assetmanagement.exception.PreconditionFailedException;
 import com.assetmanagement.model.AssetStatus;
+import com.assetmanagement.service.AssetChangeCounter;
+import com.assetmanagement.service.AssetChangeFeedService;
+import com.assetmanagement.service.AssetEventBroadcaster;
+import com.assetmanagement.service.AssetExportFormat;
+import com.assetmanagement.service.AssetExportService;
 import com.assetmanagement.service.AssetService;
+import com.assetmanagement.service.AssetStatsService;
+import com.assetmanagement.service.WarrantyAlertService;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
 
 @RestController
@@ -15,27 +45,101 @@ import java.util.List;
 @RequiredArgsConstructor
 @CrossOrigin(origins = "${cors.allowed-origins}")
 public class AssetController {
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    // Let clients keep responses but revalidate them (If-None-Match) on every use.
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final AssetService assetService;
+    private final AssetExportService assetExportService;
+    private final AssetStatsService assetStatsService;
+    private final WarrantyAlertService warrantyAlertService;
+    private final AssetChangeCounter assetChangeCounter;
+    private final AssetChangeFeedService assetChangeFeedService;
+    private final AssetEventBroadcaster assetEventBroadcaster;
 
     @GetMapping
-    public ResponseEntity<List<AssetDTO>> getAllAssets(
+    public ResponseEntity<List<AssetSummaryDTO>> getAllAssets(
             @RequestParam(required = false) String search,
-            @RequestParam(required = false) AssetStatus status) {
+            @RequestParam(required = false) AssetStatus status,
+            @Valid AssetPageRequest pageRequest,
+            WebRequest request) {
+
+        if (request.checkNotModified(assetChangeCounter.etag())) {
+            return null;
+        }
 
         if (search != null && !search.isEmpty()) {
-            return ResponseEntity.ok(assetService.searchAssets(search));
+            return toPagedResponse(assetService.searchAssets(search, status, pageRequest));
         }
 
         if (status != null) {
-            return ResponseEntity.ok(assetService.getAssetsByStatus(status));
+            return toPagedResponse(assetService.getAssetsByStatus(status, pageRequest));
         }
 
-        return ResponseEntity.ok(assetService.getAllAssets());
+        return toPagedResponse(assetService.getAllAssets(pageRequest));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<AssetStatsDTO> getAssetStats() {
+        return ResponseEntity.ok(assetStatsService.getStats());
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<AssetChangesDTO> getAssetChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "" + AssetPageRequest.MAX_LIMIT) int limit) {
+        return ResponseEntity.ok(assetChangeFeedService.getChanges(since, limit));
+    }
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAssetEvents() {
+        return assetEventBroadcaster.subscribe();
+    }
+
+    @GetMapping("/warranty-alerts")
+    public ResponseEntity<List<WarrantyAlertDTO>> getWarrantyAlerts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + AssetPageRequest.DEFAULT_LIMIT) int limit) {
+        return toPagedResponse(warrantyAlertService.getAlerts(cursor, limit));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAssets(@RequestParam(defaultValue = "csv") String format) {
+        AssetExportFormat exportFormat = AssetExportFormat.fromParameter(format);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("assets." + exportFormat.getExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(out -> assetExportService.export(exportFormat, out));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<AssetDTO> getAssetById(@PathVariable String id) {
-        return ResponseEntity.ok(assetService.getAssetById(id));
+    public ResponseEntity<AssetDTO> getAssetById(@PathVariable String id, WebRequest request) {
+        // Only revalidations pay for the version lookup, and a match skips loading the asset.
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(assetETag(assetService.getAssetVersion(id)))) {
+            return null;
+        }
+        AssetDTO asset = assetService.getAssetById(id);
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .eTag(assetETag(asset.getVersion()))
+                .body(asset);
+    }
+
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<AssetHistoryDTO>> getAssetHistory(
+            @PathVariable String id,
+            @PageableDefault(size = 20) Pageable pageable) {
+        Page<AssetHistoryDTO> page = assetService.getAssetHistory(id, pageable);
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(page.getTotalElements()))
+                .body(page.getContent());
     }
 
     @PostMapping
@@ -44,11 +148,49 @@ public class AssetController {
                 .body(assetService.createAsset(assetDTO));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<AssetBatchResponse> createAssets(@RequestBody List<AssetDTO> assetDTOs) {
+        return ResponseEntity.ok(assetService.createAssets(assetDTOs));
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<AssetBatchResponse> updateAssets(@RequestBody List<AssetDTO> assetDTOs) {
+        return ResponseEntity.ok(assetService.updateAssets(assetDTOs));
+    }
+
+    @PostMapping("/bulk-transition")
+    public ResponseEntity<AssetBulkTransitionResponse> transitionAssets(
+            @Valid @RequestBody AssetBulkTransitionRequest request) {
+        return ResponseEntity.ok(assetService.transitionAssets(request));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<AssetDTO> updateAsset(
             @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody AssetDTO assetDTO) {
-        return ResponseEntity.ok(assetService.updateAsset(id, assetDTO));
+        AssetDTO updated = assetService.updateAsset(id, assetDTO, parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(assetETag(updated.getVersion()))
+                .body(updated);
+    }
+
+    @PatchMapping(path = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<AssetDTO> patchAsset(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch) {
+        AssetDTO updated = assetService.patchAsset(id, patch, parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(assetETag(updated.getVersion()))
+                .body(updated);
+    }
+
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<AssetBulkDeleteResponse> deleteAssets(@RequestParam List<String> ids) {
+        return ResponseEntity.ok(AssetBulkDeleteResponse.builder()
+                .deleted(assetService.deleteAssets(ids))
+                .build());
     }
 
     @DeleteMapping("/{id}")
@@ -56,4 +198,35 @@ public class AssetController {
         assetService.deleteAsset(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private <T> ResponseEntity<List<T>> toPagedResponse(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(REVALIDATE);
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        if (page.getTotalCount() != null) {
+            response.header(TOTAL_COUNT_HEADER, String.valueOf(page.getTotalCount()));
+        }
+        return response.body(page.getItems());
+    }
+
+    private static String assetETag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /** The version a strong {@code If-Match} tag names, or {@code null} when any version will do. */
+    private static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // Not one of our tags; fall through.
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not match the asset's current ETag");
+    }
+}
@@ -2,11 +2,14 @@ package com.assetmanagement.controller;
 
 import com.assetmanagement.dto.LoginRequest;
 import com.assetmanagement.dto.LoginResponse;
+import com.assetmanagement.exception.LoginRejectedException;
 import com.assetmanagement.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -17,12 +20,22 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
+    public CompletableFuture<ResponseEntity<LoginResponse>> login(@Valid @RequestBody LoginRequest loginRequest,
+                                                                  HttpServletRequest request) {
         try {
-            LoginResponse response = authService.login(loginRequest);
-            return ResponseEntity.ok(response);
+            return authService.login(loginRequest, request.getRemoteAddr()).handle((response, e) -> {
+                if (e == null) {
+                    return ResponseEntity.ok(response);
+                }
+                if (e.getCause() instanceof LoginRejectedException rejected) {
+                    throw rejected;
+                }
+                return ResponseEntity.status(401).body(null);
+            });
+        } catch (LoginRejectedException e) {
+            throw e;
         } catch (RuntimeException e) {
-            return ResponseEntity.status(401).body(null);
+            return CompletableFuture.completedFuture(ResponseEntity.status(401).body(null));
         }
     }
 }
\ No newline at end of file
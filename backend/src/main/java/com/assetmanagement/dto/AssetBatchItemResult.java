@@ -0,0 +1,16 @@
+package com.assetmanagement.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssetBatchItemResult {
+    /** Position of the item in the request array. */
+    private int index;
+    private String id;
+    /** HTTP status the item would have received as a single request. */
+    private int status;
+    private String error;
+}
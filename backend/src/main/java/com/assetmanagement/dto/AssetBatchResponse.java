@@ -0,0 +1,14 @@
+package com.assetmanagement.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssetBatchResponse {
+    private int succeeded;
+    private int failed;
+    private List<AssetBatchItemResult> items;
+}
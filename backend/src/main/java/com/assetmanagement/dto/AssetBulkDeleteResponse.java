@@ -0,0 +1,12 @@
+package com.assetmanagement.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssetBulkDeleteResponse {
+    // Ids that did not match an asset are not counted.
+    private int deleted;
+}
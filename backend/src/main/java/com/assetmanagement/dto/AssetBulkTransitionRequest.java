@@ -0,0 +1,26 @@
+package com.assetmanagement.dto;
+
+import lombok.*;
+import com.assetmanagement.model.*;
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssetBulkTransitionRequest {
+    public static final int MAX_ASSETS = 100_000;
+
+    // Either the assets to move, or a filter selecting them.
+    @Size(max = MAX_ASSETS, message = "At most " + MAX_ASSETS + " ids may be given")
+    private List<String> ids;
+
+    private AssetFilter filter;
+
+    // What to move them to: a new status, a new assignee (0 unassigns), or both.
+    private AssetStatus status;
+
+    @Min(value = 0, message = "assignedTo must be a user id, or 0 to unassign")
+    private Long assignedTo;
+}
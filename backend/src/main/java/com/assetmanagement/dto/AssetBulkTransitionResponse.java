@@ -0,0 +1,13 @@
+package com.assetmanagement.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssetBulkTransitionResponse {
+    // Assets selected by the request, and those of them that actually changed.
+    private int matched;
+    private int updated;
+}
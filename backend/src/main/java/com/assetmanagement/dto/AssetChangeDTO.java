@@ -0,0 +1,31 @@
+package com.assetmanagement.dto;
+
+import lombok.*;
+import com.assetmanagement.model.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the asset change feed: the current state of a created or
+ * updated asset, or a tombstone ({@code deleted = true}, id only) for a
+ * deleted one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssetChangeDTO {
+    private String id;
+    private long changeSeq;
+    private LocalDateTime changedAt;
+    private boolean deleted;
+    private String name;
+    private AssetCategory category;
+    private AssetStatus status;
+    private LocalDate purchaseDate;
+    private Long assignedTo;
+    private String vendor;
+    private LocalDate warrantyExpiry;
+    private String specs;
+    private String notes;
+}
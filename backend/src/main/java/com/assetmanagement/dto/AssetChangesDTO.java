@@ -0,0 +1,17 @@
+package com.assetmanagement.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssetChangesDTO {
+    private List<AssetChangeDTO> changes;
+
+    // Pass back as ?since= to continue from here.
+    private String token;
+
+    private boolean hasMore;
+}
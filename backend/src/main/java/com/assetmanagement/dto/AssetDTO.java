@@ -12,9 +12,11 @@ import java.util.List;
 @Builder
 public class AssetDTO {
     @NotBlank(message = "Asset ID is required")
+    @Size(max = 255, message = "Asset ID must be at most 255 characters")
     private String id;
 
     @NotBlank(message = "Name is required")
+    @Size(max = 255, message = "Name must be at most 255 characters")
     private String name;
 
     @NotNull(message = "Category is required")
@@ -33,11 +35,17 @@ public class AssetDTO {
     private String notes;
 
     @NotBlank(message = "Vendor is required")
+    @Size(max = 255, message = "Vendor must be at most 255 characters")
     private String vendor;
 
     private LocalDate warrantyExpiry;
 
     private String specs;
 
+    // Only filled in by GET /api/assets/{id}; create and update responses leave it null, since the
+    // new entry is written just after the commit.
     private List<AssetHistoryDTO> history;
+
+    // Never written from a request. A PUT without If-Match expects it to match the stored version (412 otherwise).
+    private Long version;
 }
@@ -0,0 +1,22 @@
+package com.assetmanagement.dto;
+
+import lombok.*;
+import com.assetmanagement.event.AssetChangeEvent;
+import com.assetmanagement.model.*;
+
+/**
+ * Payload of an {@code asset} event on {@code GET /api/assets/events}: just
+ * enough for a client to patch its list or decide to refetch the asset.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssetEventDTO {
+    private AssetChangeEvent.Type type;
+    private String id;
+    // Status and assignee after the change; null for deletions.
+    private AssetStatus status;
+    private Long assignedTo;
+    private Long version;
+}
@@ -0,0 +1,23 @@
+package com.assetmanagement.dto;
+
+import lombok.*;
+import com.assetmanagement.model.*;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssetExportRow {
+    private String id;
+    private String name;
+    private AssetCategory category;
+    private AssetStatus status;
+    private LocalDate purchaseDate;
+    private Long assignedTo;
+    private String assigneeName;
+    private String vendor;
+    private LocalDate warrantyExpiry;
+    private String specs;
+    private String notes;
+}
@@ -0,0 +1,21 @@
+package com.assetmanagement.dto;
+
+import lombok.*;
+import com.assetmanagement.model.*;
+
+/** Selects assets by exact match on every field that is set. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssetFilter {
+    private AssetStatus status;
+    private AssetCategory category;
+    private String vendor;
+    // 0 selects unassigned assets.
+    private Long assignedTo;
+
+    public boolean isEmpty() {
+        return status == null && category == null && vendor == null && assignedTo == null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.assetmanagement.dto;
+
+import lombok.*;
+import jakarta.validation.constraints.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssetPageRequest {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private String cursor;
+
+    @Builder.Default
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = MAX_LIMIT, message = "Limit must not exceed " + MAX_LIMIT)
+    private int limit = DEFAULT_LIMIT;
+
+    @Builder.Default
+    private String sort = "id";
+
+    @Builder.Default
+    private String direction = "asc";
+
+    private boolean includeTotal;
+}
@@ -0,0 +1,35 @@
+package com.assetmanagement.dto;
+
+import lombok.*;
+import com.assetmanagement.model.*;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssetSearchDocument {
+    private String id;
+    private String name;
+    private AssetCategory category;
+    private AssetStatus status;
+    private LocalDate purchaseDate;
+    private Long assignedTo;
+    private String assigneeName;
+    private String vendor;
+    private LocalDate warrantyExpiry;
+    private String specs;
+
+    public AssetSummaryDTO toSummary() {
+        return AssetSummaryDTO.builder()
+                .id(id)
+                .name(name)
+                .category(category)
+                .status(status)
+                .purchaseDate(purchaseDate)
+                .assignedTo(assignedTo)
+                .vendor(vendor)
+                .warrantyExpiry(warrantyExpiry)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.assetmanagement.dto;
+
+import lombok.*;
+import com.assetmanagement.model.*;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssetStatsDTO {
+    private long total;
+    private Map<AssetStatus, Long> byStatus;
+    private Map<AssetCategory, Long> byCategory;
+    private Map<String, Long> byVendor;
+    /** Assigned assets per department of the assignee. */
+    private Map<String, Long> byDepartment;
+    private long unassigned;
+    /** Assets whose warranty expires between today and today plus the key, in days. */
+    private Map<Integer, Long> warrantyExpiringWithinDays;
+    private LocalDateTime reconciledAt;
+}
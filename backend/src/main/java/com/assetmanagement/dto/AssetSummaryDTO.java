@@ -0,0 +1,20 @@
+package com.assetmanagement.dto;
+
+import lombok.*;
+import com.assetmanagement.model.*;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class AssetSummaryDTO {
+    private String id;
+    private String name;
+    private AssetCategory category;
+    private AssetStatus status;
+    private LocalDate purchaseDate;
+    private Long assignedTo;
+    private String vendor;
+    private LocalDate warrantyExpiry;
+}
@@ -0,0 +1,16 @@
+package com.assetmanagement.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+    private List<T> items;
+
+    private String nextCursor;
+
+    private Long totalCount;
+}
@@ -13,5 +13,7 @@ public class DepartmentDTO {
     @NotBlank(message = "Department name is required")
     private String name;
 
-    private int employeeCount;
+    private long employeeCount;
+
+    private long assetCount;
 }
\ No newline at end of file
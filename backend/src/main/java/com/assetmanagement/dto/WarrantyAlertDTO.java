@@ -0,0 +1,19 @@
+package com.assetmanagement.dto;
+
+import lombok.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WarrantyAlertDTO {
+    private Long id;
+    private String assetId;
+    private String assetName;
+    private LocalDate warrantyExpiry;
+    private Long assignedTo;
+    private String assigneeName;
+    private LocalDateTime detectedAt;
+}
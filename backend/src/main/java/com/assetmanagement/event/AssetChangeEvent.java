@@ -0,0 +1,35 @@
+package com.assetmanagement.event;
+
+import com.assetmanagement.dto.AssetSummaryDTO;
+import lombok.Value;
+
+/**
+ * Published by {@code AssetService} inside the writing transaction. Listeners
+ * that maintain derived state should use
+ * {@code @TransactionalEventListener} so they only see committed changes.
+ */
+@Value
+public class AssetChangeEvent {
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    Type type;
+    String assetId;
+    /** State before the change; {@code null} for {@link Type#CREATED}. */
+    AssetSummaryDTO before;
+    /** State after the change; {@code null} for {@link Type#DELETED}. */
+    AssetSummaryDTO after;
+    /** The asset's version once the change commits; its last version for {@link Type#DELETED}. */
+    Long version;
+
+    public static AssetChangeEvent created(AssetSummaryDTO after, Long version) {
+        return new AssetChangeEvent(Type.CREATED, after.getId(), null, after, version);
+    }
+
+    public static AssetChangeEvent updated(AssetSummaryDTO before, AssetSummaryDTO after, Long version) {
+        return new AssetChangeEvent(Type.UPDATED, after.getId(), before, after, version);
+    }
+
+    public static AssetChangeEvent deleted(AssetSummaryDTO before, Long version) {
+        return new AssetChangeEvent(Type.DELETED, before.getId(), before, null, version);
+    }
+}
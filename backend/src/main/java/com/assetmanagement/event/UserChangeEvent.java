@@ -0,0 +1,19 @@
+package com.assetmanagement.event;
+
+import lombok.Value;
+
+/**
+ * Published by {@code UserService} inside the writing transaction. A user is
+ * only deleted once no assets are assigned to them.
+ */
+@Value
+public class UserChangeEvent {
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    Type type;
+    Long userId;
+    /** The user's name after the change; {@code null} for {@link Type#DELETED}. */
+    String name;
+    /** The user's department after the change; {@code null} for {@link Type#DELETED}. */
+    String departmentName;
+}
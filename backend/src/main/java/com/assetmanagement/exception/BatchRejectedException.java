@@ -0,0 +1,14 @@
+package com.assetmanagement.exception;
+
+/**
+ * Thrown when the database rejects part of a batch write although every item
+ * passed its own checks, for example because an assignee was deleted in the
+ * meantime. The failure cannot be traced to one item, so the whole batch is
+ * rolled back.
+ */
+public class BatchRejectedException extends RuntimeException {
+    public BatchRejectedException(int fromIndex, int toIndex, Throwable cause) {
+        super("The database rejected items " + fromIndex + " to " + toIndex
+                + "; the batch was rolled back and none of its assets were saved", cause);
+    }
+}
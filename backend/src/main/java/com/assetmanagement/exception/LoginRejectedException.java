@@ -0,0 +1,32 @@
+package com.assetmanagement.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import java.time.Duration;
+
+/**
+ * Thrown when a login attempt is refused before its password is checked,
+ * either because the caller is throttled or because the login executor is full.
+ * A password change is refused with {@link #overloaded()} on the same executor.
+ */
+@Getter
+public class LoginRejectedException extends RuntimeException {
+    private final HttpStatus status;
+    private final Duration retryAfter;
+
+    private LoginRejectedException(HttpStatus status, Duration retryAfter, String message) {
+        super(message);
+        this.status = status;
+        this.retryAfter = retryAfter;
+    }
+
+    public static LoginRejectedException throttled(Duration retryAfter) {
+        return new LoginRejectedException(HttpStatus.TOO_MANY_REQUESTS, retryAfter,
+                "Too many login attempts, try again later");
+    }
+
+    public static LoginRejectedException overloaded() {
+        return new LoginRejectedException(HttpStatus.SERVICE_UNAVAILABLE, Duration.ofSeconds(1),
+                "Password checks are temporarily unavailable, try again shortly");
+    }
+}
@@ -1,17 +1,40 @@
 package com.assetmanagement.model;
+import com.assetmanagement.service.AssetChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "assets")
+@NamedEntityGraph(name = Asset.WITH_DETAILS_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode(value = "assignedUser", subgraph = "assignee"),
+                @NamedAttributeNode("history")
+        },
+        subgraphs = @NamedSubgraph(name = "assignee", attributeNodes = @NamedAttributeNode("department")))
+@Table(name = "assets", indexes = {
+        @Index(name = "idx_assets_name_id", columnList = "name, asset_id"),
+        @Index(name = "idx_assets_category_id", columnList = "category, asset_id"),
+        @Index(name = "idx_assets_status_id", columnList = "status, asset_id"),
+        @Index(name = "idx_assets_purchase_date_id", columnList = "purchase_date, asset_id"),
+        @Index(name = "idx_assets_vendor_id", columnList = "vendor, asset_id"),
+        @Index(name = "idx_assets_warranty_expiry_id", columnList = "warranty_expiry, asset_id"),
+        @Index(name = "idx_assets_assigned_to", columnList = "assigned_to"),
+        @Index(name = "idx_assets_change_seq_id", columnList = "change_seq, asset_id")
+})
+@EntityListeners(AssetChangeListener.class)
+// Updates write only the changed columns, so unchanged notes and specs are not rewritten.
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Asset {
+    public static final String WITH_DETAILS_GRAPH = "Asset.withDetails";
+
     @Id
     @Column(name = "asset_id", nullable = false, unique = true)
     private String id;
@@ -47,6 +70,17 @@ public class Asset {
     @Column(columnDefinition = "TEXT")
     private String specs;
 
+    // Bumped on every update; doubles as the asset's ETag.
+    @Version
+    private Long version;
+
+    // Set by AssetChangeListener on every insert and update; drives GET /api/assets/changes.
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @OneToMany(mappedBy = "asset", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<AssetHistory> history = new ArrayList<>();
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.assetmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Tombstone for a deleted asset, served by the change feed in the same
+ * {@code (change_seq, asset_id)} order as the assets themselves. The asset id
+ * is kept as plain text since the asset row is gone.
+ */
+@Entity
+@Table(name = "asset_deletions", indexes = {
+        @Index(name = "idx_asset_deletions_change_seq_id", columnList = "change_seq, asset_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssetDeletion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "asset_id", nullable = false)
+    private String assetId;
+
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -6,14 +6,18 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "asset_history")
+@Table(name = "asset_history", indexes = {
+        @Index(name = "idx_asset_history_asset_date", columnList = "asset_id, date, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class AssetHistory {
+    // A sequence (rather than IDENTITY) lets Hibernate batch history inserts.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "asset_history_seq")
+    @SequenceGenerator(name = "asset_history_seq", sequenceName = "asset_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
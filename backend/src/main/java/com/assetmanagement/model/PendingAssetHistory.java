@@ -0,0 +1,48 @@
+package com.assetmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import java.time.LocalDate;
+
+/**
+ * A history entry committed with its asset change but not yet moved into
+ * {@code asset_history} by the background writer. The id is taken from the
+ * history sequence up front and becomes the history row's id, so entries keep
+ * their order. Asset and user are plain ids: no foreign keys to check or lock
+ * on the write path. {@code attempts} counts how often the entry failed to be
+ * written on its own.
+ */
+@Entity
+@Table(name = "pending_asset_history")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PendingAssetHistory {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pending_asset_history_seq")
+    @SequenceGenerator(name = "pending_asset_history_seq", sequenceName = "asset_history_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "asset_id", nullable = false)
+    private String assetId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AssetStatus status;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(columnDefinition = "TEXT")
+    private String notes;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int attempts = 0;
+}
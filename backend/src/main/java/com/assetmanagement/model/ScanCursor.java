@@ -0,0 +1,30 @@
+package com.assetmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Position of a scheduled job in the {@code (warranty_expiry, asset_id)} order
+ * of the assets table, so that each run resumes where the previous one stopped.
+ */
+@Entity
+@Table(name = "scan_cursors")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScanCursor {
+    @Id
+    private String name;
+
+    @Column(name = "last_date", nullable = false)
+    private LocalDate lastDate;
+
+    @Column(name = "last_asset_id", nullable = false)
+    private String lastAssetId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
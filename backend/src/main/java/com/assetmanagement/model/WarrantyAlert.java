@@ -0,0 +1,34 @@
+package com.assetmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One notification that an asset's warranty is about to expire. The asset is
+ * referenced by id only, so alerts never block deleting an asset; a new
+ * warranty date on the same asset gets an alert of its own.
+ */
+@Entity
+@Table(name = "warranty_alerts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_warranty_alerts_asset_expiry", columnNames = {"asset_id", "warranty_expiry"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WarrantyAlert {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "asset_id", nullable = false)
+    private String assetId;
+
+    @Column(name = "warranty_expiry", nullable = false)
+    private LocalDate warrantyExpiry;
+
+    @Column(name = "detected_at", nullable = false)
+    private LocalDateTime detectedAt;
+}
@@ -0,0 +1,35 @@
+package com.assetmanagement.repository;
+
+import com.assetmanagement.model.AssetDeletion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AssetDeletionRepository extends JpaRepository<AssetDeletion, Long> {
+
+    /** Keyset over {@code idx_asset_deletions_change_seq_id}: tombstones after the given position, up to {@code until}. */
+    @Query("""
+            SELECT d FROM AssetDeletion d
+            WHERE (d.changeSeq > :lastSeq OR (d.changeSeq = :lastSeq AND d.assetId > :lastId))
+              AND d.changeSeq <= :until
+            ORDER BY d.changeSeq, d.assetId
+            """)
+    List<AssetDeletion> findDeletionsAfter(long lastSeq, String lastId, long until, Limit limit);
+
+    /** Tombstones for the given assets, ahead of deleting them; ids are bound as one array. */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "asset_deletions"))
+    @Query(value = """
+            INSERT INTO asset_deletions (asset_id, change_seq, deleted_at)
+            SELECT a.asset_id, :changeSeq, :deletedAt FROM assets a WHERE a.asset_id = ANY(:assetIds)
+            """, nativeQuery = true)
+    int recordDeletions(String[] assetIds, long changeSeq, LocalDateTime deletedAt);
+}
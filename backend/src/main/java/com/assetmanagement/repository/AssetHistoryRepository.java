@@ -1,11 +1,42 @@
 package com.assetmanagement.repository;
 
 import com.assetmanagement.model.AssetHistory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
-import java.util.List;
+import java.time.LocalDate;
 
 @Repository
 public interface AssetHistoryRepository extends JpaRepository<AssetHistory, Long> {
-    List<AssetHistory> findByAssetIdOrderByDateDesc(String assetId);
+    Page<AssetHistory> findByAssetIdOrderByDateDesc(String assetId, Pageable pageable);
+
+    /**
+     * Ids are bound as one array, so every batch size shares one statement
+     * and one plan; the query space hint keeps the second-level cache.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "asset_history"))
+    @Query(value = "DELETE FROM asset_history WHERE asset_id = ANY(:assetIds)", nativeQuery = true)
+    int deleteByAssetIds(String[] assetIds);
+
+    /**
+     * Records one entry per asset with its current status and assignee in a
+     * single statement. Ids are drawn straight from the history sequence, so
+     * each row skips the pooled optimizer's block of ids. The query space hint
+     * stops Hibernate from evicting the whole second-level cache afterwards.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "asset_history"))
+    @Query(value = """
+            INSERT INTO asset_history (id, asset_id, date, status, user_id, notes)
+            SELECT nextval('asset_history_seq'), a.asset_id, :date, a.status, a.assigned_to, :notes
+            FROM assets a WHERE a.asset_id = ANY(:assetIds)
+            """, nativeQuery = true)
+    int recordCurrentStates(String[] assetIds, LocalDate date, String notes);
 }
@@ -1,23 +1,118 @@
 package com.assetmanagement.repository;
 
+import com.assetmanagement.dto.AssetChangeDTO;
+import com.assetmanagement.dto.AssetExportRow;
+import com.assetmanagement.dto.AssetSearchDocument;
 import com.assetmanagement.model.Asset;
+import com.assetmanagement.model.AssetCategory;
 import com.assetmanagement.model.AssetStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface AssetRepository extends JpaRepository<Asset, String> {
-    List<Asset> findByStatus(AssetStatus status);
+public interface AssetRepository extends JpaRepository<Asset, String>, AssetRepositoryCustom {
+    String SEARCH_DOCUMENT_SELECT = """
+            SELECT new com.assetmanagement.dto.AssetSearchDocument(
+                a.id, a.name, a.category, a.status, a.purchaseDate,
+                u.id, u.name, a.vendor, a.warrantyExpiry, a.specs)
+            FROM Asset a
+            LEFT JOIN a.assignedUser u
+            """;
+
     List<Asset> findByAssignedUserId(Long userId);
 
+    boolean existsByAssignedUserId(Long userId);
+
+    @EntityGraph(Asset.WITH_DETAILS_GRAPH)
+    Optional<Asset> findWithDetailsById(String id);
+
+    long countByStatus(AssetStatus status);
+
+    @Query("SELECT a.version FROM Asset a WHERE a.id = :id")
+    Optional<Long> findVersionById(String id);
+
+    @Query("SELECT a.id FROM Asset a WHERE a.id IN :ids")
+    Set<String> findExistingIds(Collection<String> ids);
+
+    /**
+     * Deletes the assets without loading them; their history has to go first.
+     * Ids are bound as one array, like {@code AssetHistoryRepository#deleteByAssetIds}.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "assets"))
+    @Query(value = "DELETE FROM assets WHERE asset_id = ANY(:ids)", nativeQuery = true)
+    int deleteInBulk(String[] ids);
+
+    @Query("SELECT a.status AS bucket, COUNT(a) AS total FROM Asset a GROUP BY a.status")
+    List<GroupCount<AssetStatus>> countGroupedByStatus();
+
+    @Query("SELECT a.category AS bucket, COUNT(a) AS total FROM Asset a GROUP BY a.category")
+    List<GroupCount<AssetCategory>> countGroupedByCategory();
+
+    @Query("SELECT a.vendor AS bucket, COUNT(a) AS total FROM Asset a GROUP BY a.vendor")
+    List<GroupCount<String>> countGroupedByVendor();
+
+    @Query("SELECT a.assignedUser.id AS bucket, COUNT(a) AS total FROM Asset a "
+            + "WHERE a.assignedUser IS NOT NULL GROUP BY a.assignedUser.id")
+    List<GroupCount<Long>> countGroupedByAssignee();
+
+    @Query("SELECT a.warrantyExpiry AS bucket, COUNT(a) AS total FROM Asset a "
+            + "WHERE a.warrantyExpiry >= :from GROUP BY a.warrantyExpiry")
+    List<GroupCount<LocalDate>> countGroupedByWarrantyExpiryFrom(LocalDate from);
+
+    /** Keyset over {@code idx_assets_warranty_expiry_id}: warranties after the given position, up to {@code until}. */
     @Query("""
-    SELECT a FROM Asset a 
-    LEFT JOIN a.assignedUser u
-    WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :searchTerm, '%'))
-       OR LOWER(u.name) LIKE LOWER(CONCAT('%', :searchTerm, '%'))
-""")
-    List<Asset> searchAssets(String searchTerm);
-
-}
\ No newline at end of file
+            SELECT a.id AS id, a.warrantyExpiry AS warrantyExpiry
+            FROM Asset a
+            WHERE (a.warrantyExpiry > :lastDate OR (a.warrantyExpiry = :lastDate AND a.id > :lastId))
+              AND a.warrantyExpiry <= :until
+            ORDER BY a.warrantyExpiry, a.id
+            """)
+    List<WarrantyPosition> findWarrantiesAfter(LocalDate lastDate, String lastId, LocalDate until, Limit limit);
+
+    /** Keyset over {@code idx_assets_change_seq_id}: assets changed after the given position, up to {@code until}. */
+    @Query("""
+            SELECT new com.assetmanagement.dto.AssetChangeDTO(
+                a.id, a.changeSeq, a.updatedAt, false, a.name, a.category, a.status, a.purchaseDate,
+                a.assignedUser.id, a.vendor, a.warrantyExpiry, a.specs, a.notes)
+            FROM Asset a
+            WHERE (a.changeSeq > :lastSeq OR (a.changeSeq = :lastSeq AND a.id > :lastId))
+              AND a.changeSeq <= :until
+            ORDER BY a.changeSeq, a.id
+            """)
+    List<AssetChangeDTO> findChangesAfter(long lastSeq, String lastId, long until, Limit limit);
+
+    @Query(SEARCH_DOCUMENT_SELECT)
+    Stream<AssetSearchDocument> streamSearchDocuments();
+
+    /** Server-side cursor over the whole inventory; must be consumed inside a transaction. */
+    @Query("""
+            SELECT new com.assetmanagement.dto.AssetExportRow(
+                a.id, a.name, a.category, a.status, a.purchaseDate,
+                u.id, u.name, a.vendor, a.warrantyExpiry, a.specs, a.notes)
+            FROM Asset a
+            LEFT JOIN a.assignedUser u
+            ORDER BY a.id
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<AssetExportRow> streamExportRows();
+
+    interface WarrantyPosition {
+        String getId();
+
+        LocalDate getWarrantyExpiry();
+    }
+}
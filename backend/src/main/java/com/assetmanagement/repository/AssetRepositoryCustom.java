@@ -0,0 +1,58 @@
+package com.assetmanagement.repository;
+
+import com.assetmanagement.dto.AssetFilter;
+import com.assetmanagement.dto.AssetSearchDocument;
+import com.assetmanagement.dto.AssetSummaryDTO;
+import com.assetmanagement.model.AssetStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface AssetRepositoryCustom {
+    String RELEVANCE = "relevance";
+
+    /**
+     * Keyset-scrolls asset summaries through a constructor projection, so
+     * neither the TEXT columns nor {@code asset_history} are ever read.
+     * {@code status} is an optional filter.
+     */
+    Window<AssetSummaryDTO> findSummaries(AssetStatus status, ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Substring search over asset name, id, vendor, specs and assignee name,
+     * ordered by {@value #RELEVANCE} (descending) then asset id (descending).
+     * On PostgreSQL the matching is served by the pg_trgm GIN indexes from
+     * {@code schema-postgresql.sql} and ranked by trigram word similarity;
+     * other databases fall back to a plain LIKE scan with a constant rank.
+     * {@code status} is an optional filter.
+     */
+    Window<AssetSummaryDTO> searchSummaries(String searchTerm, AssetStatus status, ScrollPosition position,
+                                            Limit limit);
+
+    long countSearchMatches(String searchTerm, AssetStatus status);
+
+    /** Loads the search documents of the given assets in one query; unknown ids are skipped. */
+    List<AssetSearchDocument> findSearchDocuments(Collection<String> ids);
+
+    /**
+     * Locks and returns the given assets, in id order, for a set-based change.
+     * Unknown ids are skipped.
+     */
+    List<LockedAssetSummary> lockSummaries(Collection<String> ids);
+
+    /** Locks and returns, in id order, at most {@code limit} assets matching every field set in the filter. */
+    List<LockedAssetSummary> lockSummaries(AssetFilter filter, int limit);
+
+    /**
+     * Moves the given assets to {@code status} (unless {@code null}) and, when
+     * {@code reassign} is set, to {@code assigneeId} in one UPDATE, bumping each
+     * version and stamping the change sequence. Bypasses the persistence
+     * context and its entity listeners.
+     */
+    int transition(Collection<String> ids, AssetStatus status, boolean reassign, Long assigneeId,
+                   long changeSeq, LocalDateTime updatedAt);
+}
@@ -0,0 +1,429 @@
+package com.assetmanagement.repository;
+
+import com.assetmanagement.dto.AssetFilter;
+import com.assetmanagement.dto.AssetSearchDocument;
+import com.assetmanagement.dto.AssetSummaryDTO;
+import com.assetmanagement.model.Asset;
+import com.assetmanagement.model.AssetCategory;
+import com.assetmanagement.model.AssetStatus;
+import com.assetmanagement.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.*;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.query.TypedParameterValue;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class AssetRepositoryImpl implements AssetRepositoryCustom {
+
+    // One BitmapOr over the trigram indexes and idx_assets_assigned_to: matching assignees
+    // are resolved first, so the assets are read once rather than joined back to a UNION of ids.
+    private static final String SEARCH_MATCHES = """
+            (lower(a.name) LIKE :pattern
+               OR lower(a.asset_id) LIKE :pattern
+               OR lower(a.vendor) LIKE :pattern
+               OR lower(a.specs) LIKE :pattern
+               OR a.assigned_to = ANY(ARRAY(SELECT mu.id FROM users mu WHERE lower(mu.name) LIKE :pattern)))
+            """;
+
+    // Ids are bound as one array, as in lockSummaries(Collection).
+    private static final String SEARCH_DOCUMENTS = """
+            SELECT a.asset_id, a.name, a.category, a.status, a.purchase_date,
+                   a.assigned_to, u.name AS assignee_name, a.vendor, a.warranty_expiry, a.specs
+            FROM assets a
+            LEFT JOIN users u ON u.id = a.assigned_to
+            WHERE a.asset_id = ANY(:ids)
+            """;
+
+    // A field only counts towards relevance when it contains the term, so word_similarity
+    // runs on the matching fields alone.
+    private static final String RANKED_SEARCH = """
+            SELECT * FROM (
+                SELECT a.asset_id, a.name, a.category, a.status, a.purchase_date,
+                       a.assigned_to, a.vendor, a.warranty_expiry,
+                       GREATEST(
+                           CASE WHEN lower(a.name) LIKE :pattern
+                               THEN word_similarity(:term, lower(a.name)) ELSE 0 END,
+                           CASE WHEN lower(a.asset_id) LIKE :pattern
+                               THEN word_similarity(:term, lower(a.asset_id)) ELSE 0 END,
+                           CASE WHEN lower(u.name) LIKE :pattern
+                               THEN word_similarity(:term, lower(u.name)) * CAST(0.8 AS real) ELSE 0 END,
+                           CASE WHEN lower(a.vendor) LIKE :pattern
+                               THEN word_similarity(:term, lower(a.vendor)) * CAST(0.6 AS real) ELSE 0 END,
+                           CASE WHEN lower(a.specs) LIKE :pattern
+                               THEN word_similarity(:term, lower(a.specs)) * CAST(0.5 AS real) ELSE 0 END
+                       ) AS relevance
+                FROM assets a
+                LEFT JOIN users u ON u.id = a.assigned_to
+                WHERE """ + SEARCH_MATCHES + """
+                %s
+            ) ranked
+            """;
+
+    private static final String LOCK_SUMMARIES = """
+            SELECT asset_id, name, category, status, purchase_date, assigned_to, vendor, warranty_expiry, version
+            FROM assets
+            WHERE %s
+            ORDER BY asset_id
+            LIMIT :limit
+            FOR UPDATE
+            """;
+
+    private static final String AFTER_POSITION = """
+            WHERE relevance < CAST(:relevance AS real)
+               OR (relevance = CAST(:relevance AS real) AND asset_id < :id)
+            """;
+
+    private static final String RANKED_ORDER = """
+            ORDER BY relevance DESC, asset_id DESC
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Boolean postgres;
+
+    @Override
+    public Window<AssetSummaryDTO> findSummaries(AssetStatus status, ScrollPosition position, Sort sort, Limit limit) {
+        return scrollSummaries((cb, asset, user) -> status != null
+                        ? List.of(cb.equal(asset.get("status"), status))
+                        : List.of(),
+                position, sort, limit, Map.of());
+    }
+
+    @Override
+    public Window<AssetSummaryDTO> searchSummaries(String searchTerm, AssetStatus status, ScrollPosition position,
+                                                   Limit limit) {
+        String term = searchTerm.toLowerCase();
+        return isPostgres()
+                ? rankedSearch(term, status, position, limit)
+                : scrollSummaries((cb, asset, user) -> portableSearchPredicates(cb, asset, user, term, status),
+                        position, Sort.by(Sort.Direction.DESC, "id"), limit, Map.of(RELEVANCE, 0f));
+    }
+
+    @Override
+    public long countSearchMatches(String searchTerm, AssetStatus status) {
+        String term = searchTerm.toLowerCase();
+        if (isPostgres()) {
+            Query count = entityManager.createNativeQuery("SELECT count(*) FROM assets a WHERE " + SEARCH_MATCHES
+                            + (status != null ? " AND a.status = :status" : ""))
+                    .setParameter("pattern", likePattern(term));
+            if (status != null) {
+                count.setParameter("status", status.name());
+            }
+            return ((Number) count.getSingleResult()).longValue();
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Asset> asset = query.from(Asset.class);
+        Join<Asset, User> user = asset.join("assignedUser", JoinType.LEFT);
+        query.select(cb.count(asset))
+                .where(portableSearchPredicates(cb, asset, user, term, status).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<AssetSearchDocument> findSearchDocuments(Collection<String> ids) {
+        NativeQuery<Object[]> query = entityManager
+                .createNativeQuery(SEARCH_DOCUMENTS)
+                .unwrap(NativeQuery.class)
+                .addScalar("asset_id", String.class)
+                .addScalar("name", String.class)
+                .addScalar("category", String.class)
+                .addScalar("status", String.class)
+                .addScalar("purchase_date", LocalDate.class)
+                .addScalar("assigned_to", Long.class)
+                .addScalar("assignee_name", String.class)
+                .addScalar("vendor", String.class)
+                .addScalar("warranty_expiry", LocalDate.class)
+                .addScalar("specs", String.class);
+        query.setParameter("ids", ids.toArray(String[]::new));
+
+        return query.getResultList().stream()
+                .map(row -> new AssetSearchDocument(
+                        (String) row[0],
+                        (String) row[1],
+                        AssetCategory.valueOf((String) row[2]),
+                        AssetStatus.valueOf((String) row[3]),
+                        (LocalDate) row[4],
+                        (Long) row[5],
+                        (String) row[6],
+                        (String) row[7],
+                        (LocalDate) row[8],
+                        (String) row[9]))
+                .toList();
+    }
+
+    // Ids are bound as one array, so a single statement covers any number of
+    // assets without running into the driver's bind parameter limit.
+    @Override
+    public List<LockedAssetSummary> lockSummaries(Collection<String> ids) {
+        return lockSummaries("asset_id = ANY(:ids)", Map.of("ids", ids.toArray(String[]::new)), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<LockedAssetSummary> lockSummaries(AssetFilter filter, int limit) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (filter.getStatus() != null) {
+            conditions.add("status = :status");
+            parameters.put("status", filter.getStatus().name());
+        }
+        if (filter.getCategory() != null) {
+            conditions.add("category = :category");
+            parameters.put("category", filter.getCategory().name());
+        }
+        if (filter.getVendor() != null) {
+            conditions.add("vendor = :vendor");
+            parameters.put("vendor", filter.getVendor());
+        }
+        if (filter.getAssignedTo() != null) {
+            if (filter.getAssignedTo() > 0) {
+                conditions.add("assigned_to = :assignedTo");
+                parameters.put("assignedTo", filter.getAssignedTo());
+            } else {
+                conditions.add("assigned_to IS NULL");
+            }
+        }
+        return lockSummaries(String.join(" AND ", conditions), parameters, limit);
+    }
+
+    @Override
+    public int transition(Collection<String> ids, AssetStatus status, boolean reassign, Long assigneeId,
+                          long changeSeq, LocalDateTime updatedAt) {
+        StringBuilder sql = new StringBuilder(
+                "UPDATE assets SET version = version + 1, change_seq = :changeSeq, updated_at = :updatedAt");
+        if (status != null) {
+            sql.append(", status = :status");
+        }
+        if (reassign) {
+            sql.append(", assigned_to = :assignedTo");
+        }
+        // Declaring the table keeps Hibernate from evicting every second-level cache region.
+        NativeQuery<?> update = entityManager.createNativeQuery(sql.append(" WHERE asset_id = ANY(:ids)").toString())
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Asset.class)
+                .setParameter("changeSeq", changeSeq)
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("ids", ids.toArray(String[]::new));
+        if (status != null) {
+            update.setParameter("status", status.name());
+        }
+        if (reassign) {
+            update.setParameter("assignedTo", new TypedParameterValue<>(StandardBasicTypes.LONG, assigneeId));
+        }
+        return update.executeUpdate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<LockedAssetSummary> lockSummaries(String condition, Map<String, Object> parameters, int limit) {
+        NativeQuery<Object[]> query = entityManager
+                .createNativeQuery(LOCK_SUMMARIES.formatted(condition))
+                .unwrap(NativeQuery.class)
+                .addScalar("asset_id", String.class)
+                .addScalar("name", String.class)
+                .addScalar("category", String.class)
+                .addScalar("status", String.class)
+                .addScalar("purchase_date", LocalDate.class)
+                .addScalar("assigned_to", Long.class)
+                .addScalar("vendor", String.class)
+                .addScalar("warranty_expiry", LocalDate.class)
+                .addScalar("version", Long.class);
+        parameters.forEach(query::setParameter);
+        query.setParameter("limit", limit);
+
+        return query.getResultList().stream()
+                .map(row -> new LockedAssetSummary(AssetSummaryDTO.builder()
+                        .id((String) row[0])
+                        .name((String) row[1])
+                        .category(AssetCategory.valueOf((String) row[2]))
+                        .status(AssetStatus.valueOf((String) row[3]))
+                        .purchaseDate((LocalDate) row[4])
+                        .assignedTo((Long) row[5])
+                        .vendor((String) row[6])
+                        .warrantyExpiry((LocalDate) row[7])
+                        .build(), (Long) row[8]))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Window<AssetSummaryDTO> rankedSearch(String term, AssetStatus status, ScrollPosition position,
+                                                 Limit limit) {
+        Map<String, Object> after = position instanceof KeysetScrollPosition keyset && !keyset.isInitial()
+                ? keyset.getKeys()
+                : Map.of();
+
+        NativeQuery<Object[]> query = entityManager
+                .createNativeQuery(RANKED_SEARCH.formatted(status != null ? " AND a.status = :status" : "")
+                        + (after.isEmpty() ? "" : AFTER_POSITION) + RANKED_ORDER)
+                .unwrap(NativeQuery.class)
+                .addScalar("asset_id", String.class)
+                .addScalar("name", String.class)
+                .addScalar("category", String.class)
+                .addScalar("status", String.class)
+                .addScalar("purchase_date", LocalDate.class)
+                .addScalar("assigned_to", Long.class)
+                .addScalar("vendor", String.class)
+                .addScalar("warranty_expiry", LocalDate.class)
+                .addScalar(RELEVANCE, Float.class);
+        query.setParameter("term", term);
+        query.setParameter("pattern", likePattern(term));
+        if (status != null) {
+            query.setParameter("status", status.name());
+        }
+        if (!after.isEmpty()) {
+            query.setParameter(RELEVANCE, after.get(RELEVANCE));
+            query.setParameter("id", after.get("id"));
+        }
+        query.setMaxResults(limit.max() + 1);
+
+        List<AssetSummaryDTO> summaries = new ArrayList<>();
+        List<Float> relevances = new ArrayList<>();
+        for (Object[] row : query.getResultList()) {
+            summaries.add(AssetSummaryDTO.builder()
+                    .id((String) row[0])
+                    .name((String) row[1])
+                    .category(AssetCategory.valueOf((String) row[2]))
+                    .status(AssetStatus.valueOf((String) row[3]))
+                    .purchaseDate((LocalDate) row[4])
+                    .assignedTo((Long) row[5])
+                    .vendor((String) row[6])
+                    .warrantyExpiry((LocalDate) row[7])
+                    .build());
+            relevances.add((Float) row[8]);
+        }
+
+        boolean hasNext = summaries.size() > limit.max();
+        List<AssetSummaryDTO> page = hasNext ? summaries.subList(0, limit.max()) : summaries;
+        return Window.from(page, index -> {
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(RELEVANCE, relevances.get(index));
+            keys.put("id", page.get(index).getId());
+            return ScrollPosition.forward(keys);
+        }, hasNext);
+    }
+
+    private Window<AssetSummaryDTO> scrollSummaries(
+            SummaryFilter filter,
+            ScrollPosition position, Sort sort, Limit limit, Map<String, Object> extraKeys) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AssetSummaryDTO> query = cb.createQuery(AssetSummaryDTO.class);
+        Root<Asset> asset = query.from(Asset.class);
+        Join<Asset, User> user = asset.join("assignedUser", JoinType.LEFT);
+
+        query.select(cb.construct(AssetSummaryDTO.class,
+                asset.get("id"),
+                asset.get("name"),
+                asset.get("category"),
+                asset.get("status"),
+                asset.get("purchaseDate"),
+                user.get("id"),
+                asset.get("vendor"),
+                asset.get("warrantyExpiry")));
+
+        List<Predicate> predicates = new ArrayList<>(filter.apply(cb, asset, user));
+        if (position instanceof KeysetScrollPosition keyset && !keyset.isInitial()) {
+            predicates.add(keysetPredicate(cb, asset, sort, keyset.getKeys()));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+
+        query.orderBy(sort.stream()
+                .map(order -> order.isAscending()
+                        ? cb.asc(asset.get(order.getProperty()))
+                        : cb.desc(asset.get(order.getProperty())))
+                .toList());
+
+        List<AssetSummaryDTO> rows = entityManager.createQuery(query)
+                .setMaxResults(limit.max() + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > limit.max();
+        List<AssetSummaryDTO> page = hasNext ? rows.subList(0, limit.max()) : rows;
+        return Window.from(page, index -> {
+            Map<String, Object> keys = new LinkedHashMap<>(extraKeys);
+            keys.putAll(keysOf(page.get(index), sort));
+            return ScrollPosition.forward(keys);
+        }, hasNext);
+    }
+
+    private List<Predicate> portableSearchPredicates(CriteriaBuilder cb, Root<Asset> asset, Join<Asset, User> user,
+                                                     String term, AssetStatus status) {
+        String pattern = likePattern(term);
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.or(
+                cb.like(cb.lower(asset.get("name")), pattern, '\\'),
+                cb.like(cb.lower(asset.get("id")), pattern, '\\'),
+                cb.like(cb.lower(asset.get("vendor")), pattern, '\\'),
+                cb.like(cb.lower(asset.get("specs")), pattern, '\\'),
+                cb.like(cb.lower(user.get("name")), pattern, '\\')));
+        if (status != null) {
+            predicates.add(cb.equal(asset.get("status"), status));
+        }
+        return predicates;
+    }
+
+    /**
+     * Expands an ORDER BY list (k1, k2, ..., id) into the row-value comparison
+     * (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ..., honoring each key's direction.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate keysetPredicate(CriteriaBuilder cb, Root<Asset> asset, Sort sort, Map<String, Object> keys) {
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalities = new ArrayList<>();
+
+        for (Sort.Order order : sort) {
+            Path<Comparable> path = asset.get(order.getProperty());
+            Comparable value = (Comparable) keys.get(order.getProperty());
+
+            List<Predicate> alternative = new ArrayList<>(equalities);
+            alternative.add(order.isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value));
+            alternatives.add(cb.and(alternative.toArray(Predicate[]::new)));
+
+            equalities.add(cb.equal(path, value));
+        }
+
+        return cb.or(alternatives.toArray(Predicate[]::new));
+    }
+
+    private static Map<String, Object> keysOf(AssetSummaryDTO summary, Sort sort) {
+        BeanWrapperImpl wrapper = new BeanWrapperImpl(summary);
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : sort) {
+            keys.put(order.getProperty(), wrapper.getPropertyValue(order.getProperty()));
+        }
+        return keys;
+    }
+
+    private static String likePattern(String term) {
+        return "%" + term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+        }
+        return postgres;
+    }
+
+    @FunctionalInterface
+    private interface SummaryFilter {
+        List<Predicate> apply(CriteriaBuilder cb, Root<Asset> asset, Join<Asset, User> user);
+    }
+}
@@ -1,12 +1,40 @@
 package com.assetmanagement.repository;
 
 import com.assetmanagement.model.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Department> findByName(String name);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByName(String name);
-}
\ No newline at end of file
+
+    @Query("SELECT d.id AS id, d.name AS name, COUNT(DISTINCT u.id) AS employeeCount, COUNT(a.id) AS assetCount " +
+           "FROM Department d LEFT JOIN d.users u LEFT JOIN u.assignedAssets a " +
+           "GROUP BY d.id, d.name ORDER BY d.id")
+    List<DepartmentCounts> findAllWithCounts();
+
+    @Query("SELECT d.id AS id, d.name AS name, COUNT(DISTINCT u.id) AS employeeCount, COUNT(a.id) AS assetCount " +
+           "FROM Department d LEFT JOIN d.users u LEFT JOIN u.assignedAssets a " +
+           "WHERE d.id = :id GROUP BY d.id, d.name")
+    Optional<DepartmentCounts> findWithCountsById(Long id);
+
+    interface DepartmentCounts {
+        Long getId();
+
+        String getName();
+
+        long getEmployeeCount();
+
+        long getAssetCount();
+    }
+}
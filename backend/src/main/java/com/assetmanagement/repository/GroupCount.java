@@ -0,0 +1,8 @@
+package com.assetmanagement.repository;
+
+/** One row of a {@code GROUP BY} count query; queries alias their columns {@code bucket} and {@code total}. */
+public interface GroupCount<K> {
+    K getBucket();
+
+    long getTotal();
+}
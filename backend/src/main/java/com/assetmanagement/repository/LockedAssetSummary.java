@@ -0,0 +1,7 @@
+package com.assetmanagement.repository;
+
+import com.assetmanagement.dto.AssetSummaryDTO;
+
+/** An asset's summary and version, read under a row lock ahead of a set-based change. */
+public record LockedAssetSummary(AssetSummaryDTO summary, long version) {
+}
@@ -0,0 +1,9 @@
+package com.assetmanagement.repository;
+
+import com.assetmanagement.model.ScanCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScanCursorRepository extends JpaRepository<ScanCursor, String> {
+}
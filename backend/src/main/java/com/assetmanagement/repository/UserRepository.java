@@ -1,12 +1,36 @@
 package com.assetmanagement.repository;
 
 import com.assetmanagement.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByEmail(String email);
+
+    boolean existsByDepartmentId(Long departmentId);
+
+    @EntityGraph(attributePaths = "department")
+    List<User> findByIdIn(Collection<Long> ids);
+
+    @Query("SELECT u.id AS userId, u.department.name AS departmentName FROM User u")
+    List<UserDepartment> findAllUserDepartments();
+
+    interface UserDepartment {
+        Long getUserId();
+
+        String getDepartmentName();
+    }
 }
\ No newline at end of file
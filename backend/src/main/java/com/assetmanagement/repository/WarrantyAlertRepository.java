@@ -0,0 +1,39 @@
+package com.assetmanagement.repository;
+
+import com.assetmanagement.dto.WarrantyAlertDTO;
+import com.assetmanagement.model.WarrantyAlert;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WarrantyAlertRepository extends JpaRepository<WarrantyAlert, Long> {
+    boolean existsByAssetIdAndWarrantyExpiry(String assetId, LocalDate warrantyExpiry);
+
+    List<WarrantyAlert> findByAssetIdIn(Collection<String> assetIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "warranty_alerts"))
+    @Query(value = "DELETE FROM warranty_alerts WHERE asset_id = ANY(:assetIds)", nativeQuery = true)
+    int deleteByAssetIds(String[] assetIds);
+
+    /** Alerts after {@code afterId} whose asset still carries the alerted warranty date. */
+    @Query("""
+            SELECT new com.assetmanagement.dto.WarrantyAlertDTO(
+                w.id, a.id, a.name, w.warrantyExpiry, u.id, u.name, w.detectedAt)
+            FROM WarrantyAlert w
+            JOIN Asset a ON a.id = w.assetId
+            LEFT JOIN a.assignedUser u
+            WHERE w.id > :afterId AND a.warrantyExpiry = w.warrantyExpiry
+            ORDER BY w.id
+            """)
+    List<WarrantyAlertDTO> findCurrentAlertsAfter(long afterId, Limit limit);
+}
@@ -0,0 +1,81 @@
+package com.assetmanagement.security;
+
+import com.assetmanagement.exception.LoginRejectedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-window login attempt limits per username and per client IP. A window
+ * starts with the first attempt and lasts {@code security.login.throttle-window};
+ * a successful login clears the username's window.
+ */
+@Component
+public class LoginThrottle implements MeterBinder {
+
+    private final int maxAttemptsPerUsername;
+    private final int maxAttemptsPerIp;
+    private final Duration window;
+    private final Cache<String, AtomicInteger> usernameAttempts;
+    private final Cache<String, AtomicInteger> ipAttempts;
+    private final LongAdder throttled = new LongAdder();
+
+    public LoginThrottle(@Value("${security.login.max-attempts-per-username:5}") int maxAttemptsPerUsername,
+                         @Value("${security.login.max-attempts-per-ip:20}") int maxAttemptsPerIp,
+                         @Value("${security.login.throttle-window:1m}") Duration window) {
+        this.maxAttemptsPerUsername = maxAttemptsPerUsername;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.window = window;
+        this.usernameAttempts = newWindowCache(window);
+        this.ipAttempts = newWindowCache(window);
+    }
+
+    /**
+     * Counts an attempt against both limits.
+     *
+     * @throws LoginRejectedException (429) if either limit is exceeded
+     */
+    public void acquire(String username, String clientIp) {
+        boolean usernameExceeded = increment(usernameAttempts, normalize(username)) > maxAttemptsPerUsername;
+        boolean ipExceeded = increment(ipAttempts, clientIp) > maxAttemptsPerIp;
+        if (usernameExceeded || ipExceeded) {
+            throttled.increment();
+            throw LoginRejectedException.throttled(window);
+        }
+    }
+
+    public void reset(String username) {
+        usernameAttempts.invalidate(normalize(username));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("login.rejected", throttled, LongAdder::sum)
+                .tag("reason", "throttled")
+                .description("Login attempts refused by the per-username or per-IP limit")
+                .register(registry);
+    }
+
+    private static int increment(Cache<String, AtomicInteger> attempts, String key) {
+        return attempts.get(key, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private static String normalize(String username) {
+        return username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Cache<String, AtomicInteger> newWindowCache(Duration window) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+}
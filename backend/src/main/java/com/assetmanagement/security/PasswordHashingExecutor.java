@@ -0,0 +1,129 @@
+package com.assetmanagement.security;
+
+import com.assetmanagement.exception.LoginRejectedException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Verifies and hashes passwords (BCrypt) on a small, bounded pool so that a
+ * burst of logins or password changes cannot occupy the servlet threads
+ * serving the rest of the API; the caller gets a future back and its request
+ * thread is released meanwhile. Work that does not fit in the queue is refused
+ * with a 503 straight away, and work still waiting for a thread after
+ * {@code security.login.timeout} is dropped and refused the same way. A hash that has already started cannot be
+ * interrupted: it runs to completion even if its caller has been refused.
+ */
+@Component
+public class PasswordHashingExecutor implements MeterBinder, DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final LongAdder verifications = new LongAdder();
+    private final LongAdder verificationNanos = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    // Unknown usernames are checked against this, so they take as long as known ones.
+    private final String unknownUserHash;
+
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder,
+                                   @Value("${security.login.threads:2}") int threads,
+                                   @Value("${security.login.queue-capacity:32}") int queueCapacity,
+                                   @Value("${security.login.timeout:5s}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("login-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeout = timeout;
+        this.unknownUserHash = passwordEncoder.encode("unknown user");
+    }
+
+    /**
+     * Checks the password on the login pool. A {@code null} encoded password
+     * (no such user) never matches but costs the same hash.
+     *
+     * @throws LoginRejectedException (503) if the pool is saturated; the future
+     *                                fails with it if the check times out in the queue
+     */
+    public CompletableFuture<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> timedMatches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Hashes a new password on the login pool.
+     *
+     * @throws LoginRejectedException (503) as for {@link #matches}
+     */
+    public CompletableFuture<String> encode(CharSequence rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> result;
+        try {
+            result = CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw LoginRejectedException.overloaded();
+        }
+
+        // Work whose future has timed out is skipped when its turn comes.
+        return result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS).exceptionally(e -> {
+            if (e instanceof TimeoutException) {
+                rejected.increment();
+                throw LoginRejectedException.overloaded();
+            }
+            throw e instanceof CompletionException completion ? completion : new CompletionException(e);
+        });
+    }
+
+    private boolean timedMatches(CharSequence rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        try {
+            boolean matches = passwordEncoder.matches(rawPassword,
+                    encodedPassword != null ? encodedPassword : unknownUserHash);
+            return matches && encodedPassword != null;
+        } finally {
+            verificationNanos.add(System.nanoTime() - start);
+            verifications.increment();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("login.executor.queued", this, PasswordHashingExecutor::queuedTasks)
+                .description("Login attempts waiting for a password verification thread")
+                .register(registry);
+        Gauge.builder("login.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password verifications in progress")
+                .register(registry);
+        FunctionTimer.builder("login.password.verification", this,
+                        e -> e.verifications.sum(), e -> e.verificationNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("Time spent verifying passwords")
+                .register(registry);
+        FunctionCounter.builder("login.rejected", rejected, LongAdder::sum)
+                .tag("reason", "overloaded")
+                .description("Login attempts refused because the login executor was saturated")
+                .register(registry);
+    }
+
+    int queuedTasks() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
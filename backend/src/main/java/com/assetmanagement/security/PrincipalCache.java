@@ -0,0 +1,56 @@
+package com.assetmanagement.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+
+/**
+ * Bounded, TTL-evicting cache of the principals resolved by
+ * {@link JwtAuthenticationFilter}, so authenticated requests do not query the
+ * admins table. Entries are evicted when an admin's credentials change; the
+ * TTL bounds how long any other change can go unnoticed. Size, hits, misses
+ * and evictions are published as the {@code principals} cache meters.
+ */
+@Component
+public class PrincipalCache implements UserCache, MeterBinder {
+
+    private final Cache<String, UserDetails> cache;
+
+    public PrincipalCache(@Value("${security.principal-cache.maximum-size:1000}") long maximumSize,
+                          @Value("${security.principal-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        return cache.getIfPresent(username);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        // The filter never checks passwords, so keep hashes out of the cache.
+        cache.put(user.getUsername(), User.withUserDetails(user).password("").build());
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        cache.invalidate(username);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "principals");
+    }
+}
@@ -4,17 +4,20 @@ import com.assetmanagement.dto.AdminUpdateDTO;
 import com.assetmanagement.exception.ResourceNotFoundException;
 import com.assetmanagement.model.Admin;
 import com.assetmanagement.repository.AdminRepository;
+import com.assetmanagement.security.PasswordHashingExecutor;
+import com.assetmanagement.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 public class AdminService {
 
     private final AdminRepository adminRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final PrincipalCache principalCache;
 
     public Admin getCurrentAdmin() {
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
@@ -22,25 +25,39 @@ public class AdminService {
                 .orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
     }
 
-    public Admin updateCurrentAdmin(AdminUpdateDTO updateDTO) {
+    /**
+     * Looks the admin up on the calling thread; checking the current password
+     * and hashing a new one run on the login pool, like a login.
+     */
+    public CompletableFuture<Admin> updateCurrentAdmin(AdminUpdateDTO updateDTO) {
         Admin admin = getCurrentAdmin();
 
-        if (!passwordEncoder.matches(updateDTO.getCurrentPassword(), admin.getPassword())) {
-            throw new IllegalArgumentException("Invalid current password");
-        }
-
-        if (updateDTO.getFullName() != null && !updateDTO.getFullName().isEmpty()) {
-            admin.setFullName(updateDTO.getFullName());
-        }
-
-        if (updateDTO.getEmail() != null && !updateDTO.getEmail().isEmpty()) {
-            admin.setEmail(updateDTO.getEmail());
-        }
-
-        if (updateDTO.getPassword() != null && !updateDTO.getPassword().isEmpty()) {
-            admin.setPassword(passwordEncoder.encode(updateDTO.getPassword()));
-        }
-
-        return adminRepository.save(admin);
+        return passwordHashingExecutor.matches(updateDTO.getCurrentPassword(), admin.getPassword())
+                .thenCompose(matches -> {
+                    if (!matches) {
+                        throw new IllegalArgumentException("Invalid current password");
+                    }
+                    String password = updateDTO.getPassword();
+                    return password != null && !password.isEmpty()
+                            ? passwordHashingExecutor.encode(password)
+                            : CompletableFuture.<String>completedFuture(null);
+                })
+                .thenApply(encodedPassword -> {
+                    if (updateDTO.getFullName() != null && !updateDTO.getFullName().isEmpty()) {
+                        admin.setFullName(updateDTO.getFullName());
+                    }
+
+                    if (updateDTO.getEmail() != null && !updateDTO.getEmail().isEmpty()) {
+                        admin.setEmail(updateDTO.getEmail());
+                    }
+
+                    if (encodedPassword != null) {
+                        admin.setPassword(encodedPassword);
+                    }
+
+                    Admin updatedAdmin = adminRepository.save(admin);
+                    principalCache.removeUserFromCache(updatedAdmin.getUsername());
+                    return updatedAdmin;
+                });
     }
 }
\ No newline at end of file
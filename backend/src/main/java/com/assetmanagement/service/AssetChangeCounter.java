@@ -0,0 +1,53 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.event.AssetChangeEvent;
+import com.assetmanagement.event.UserChangeEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts changes that can alter asset lists, as a weak ETag for asset list and search
+ * responses. Each change bumps the counter both before and after its commit:
+ * the first bump keeps any response read while the commit is in flight from
+ * being tagged as current, the second (ordered after the other listeners, such
+ * as the in-memory search index) marks the new state. The counter lives in
+ * this process and restarts with a new epoch, so it only covers writes made
+ * through this instance.
+ */
+@Component
+public class AssetChangeCounter {
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong changes = new AtomicLong();
+
+    public String etag() {
+        return "W/\"" + epoch + "-" + changes.get() + "\"";
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void beforeAssetCommit(AssetChangeEvent event) {
+        changes.incrementAndGet();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void afterAssetCommit(AssetChangeEvent event) {
+        changes.incrementAndGet();
+    }
+
+    // Renaming a user changes which assets match a search by assignee name
+    // without publishing asset events.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void beforeUserCommit(UserChangeEvent event) {
+        changes.incrementAndGet();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void afterUserCommit(UserChangeEvent event) {
+        changes.incrementAndGet();
+    }
+}
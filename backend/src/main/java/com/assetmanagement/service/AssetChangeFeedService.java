@@ -0,0 +1,117 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.dto.AssetChangeDTO;
+import com.assetmanagement.dto.AssetChangesDTO;
+import com.assetmanagement.dto.AssetPageRequest;
+import com.assetmanagement.model.AssetDeletion;
+import com.assetmanagement.repository.AssetDeletionRepository;
+import com.assetmanagement.repository.AssetRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Delta feed for clients that mirror the inventory: everything created,
+ * updated or deleted since the token they last received.
+ *
+ * <p>Assets and tombstones are both read by keyset over
+ * {@code (change_seq, asset_id)}, so a request costs the same however large
+ * the inventory is and grows only with the number of changes it returns.
+ * Reads stop at {@link AssetChangeSequencer#watermark()}; changes still being
+ * committed are picked up by a later request rather than skipped.
+ */
+@Service
+@RequiredArgsConstructor
+public class AssetChangeFeedService {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Comparator<AssetChangeDTO> FEED_ORDER =
+            Comparator.comparingLong(AssetChangeDTO::getChangeSeq).thenComparing(AssetChangeDTO::getId);
+
+    private final AssetRepository assetRepository;
+    private final AssetDeletionRepository assetDeletionRepository;
+    private final AssetChangeSequencer assetChangeSequencer;
+
+    @Transactional(readOnly = true)
+    public AssetChangesDTO getChanges(String since, int limit) {
+        if (limit < 1 || limit > AssetPageRequest.MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + AssetPageRequest.MAX_LIMIT);
+        }
+        Token after = decode(since);
+        // Read the watermark first: anything committed after it is left for the next request.
+        long until = assetChangeSequencer.watermark();
+
+        List<AssetChangeDTO> upserts = assetRepository.findChangesAfter(
+                after.seq(), after.id(), until, Limit.of(limit + 1));
+        List<AssetChangeDTO> tombstones = assetDeletionRepository.findDeletionsAfter(
+                after.seq(), after.id(), until, Limit.of(limit + 1)).stream()
+                .map(AssetChangeFeedService::toTombstone)
+                .toList();
+        List<AssetChangeDTO> changes = new ArrayList<>(Stream.concat(upserts.stream(), tombstones.stream())
+                .sorted(FEED_ORDER)
+                .limit(limit + 1L)
+                .toList());
+
+        boolean hasMore = changes.size() > limit;
+        Token next;
+        if (hasMore) {
+            changes = changes.subList(0, limit);
+            AssetChangeDTO last = changes.get(limit - 1);
+            next = new Token(last.getChangeSeq(), last.getId());
+        } else {
+            // Caught up: continue from the first sequence past the watermark.
+            next = until + 1 > after.seq() ? new Token(until + 1, "") : after;
+        }
+        return AssetChangesDTO.builder()
+                .changes(changes)
+                .token(encode(next))
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private static AssetChangeDTO toTombstone(AssetDeletion deletion) {
+        return AssetChangeDTO.builder()
+                .id(deletion.getAssetId())
+                .changeSeq(deletion.getChangeSeq())
+                .changedAt(deletion.getDeletedAt())
+                .deleted(true)
+                .build();
+    }
+
+    private static Token decode(String token) {
+        if (token == null || token.isBlank()) {
+            return new Token(-1, "");
+        }
+        Token decoded;
+        try {
+            decoded = MAPPER.readValue(Base64.getUrlDecoder().decode(token), Token.class);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid change token");
+        }
+        if (decoded.id() == null) {
+            throw new IllegalArgumentException("Invalid change token");
+        }
+        return decoded;
+    }
+
+    private static String encode(Token token) {
+        try {
+            byte[] json = MAPPER.writeValueAsString(token).getBytes(StandardCharsets.UTF_8);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode change token", e);
+        }
+    }
+
+    /** Position in {@code (change_seq, asset_id)} order; the next read starts strictly after it. */
+    private record Token(long seq, String id) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.model.Asset;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import java.time.LocalDateTime;
+
+/**
+ * Stamps every inserted or modified asset with its transaction's change
+ * sequence, whichever service method wrote it. Unchanged assets are not
+ * stamped, as Hibernate only calls {@link PreUpdate} for dirty entities.
+ */
+@RequiredArgsConstructor
+public class AssetChangeListener {
+    // Looked up on first use: Hibernate creates listeners while the EntityManagerFactory is
+    // still being built, before the sequencer's JdbcTemplate may exist.
+    private final ObjectProvider<AssetChangeSequencer> assetChangeSequencer;
+
+    @PrePersist
+    @PreUpdate
+    void stamp(Asset asset) {
+        asset.setChangeSeq(assetChangeSequencer.getObject().currentSequence());
+        asset.setUpdatedAt(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,96 @@
+package com.assetmanagement.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out the change sequence numbers behind {@code GET /api/assets/changes}.
+ *
+ * <p>Every transaction that writes assets gets one number, shared by all the
+ * rows it touches. Numbers are allocated when a transaction first writes but
+ * become visible when it commits, so a later number can be visible before an
+ * earlier one. {@link #watermark()} therefore only vouches for numbers below
+ * the oldest transaction still running; readers never read past it, and so
+ * never skip a change that commits late.
+ *
+ * <p>Allocation and the in-flight set live in this process, like the other
+ * asset change counters; one application instance must own the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class AssetChangeSequencer {
+    private final JdbcTemplate jdbcTemplate;
+
+    // Not a monitor: the first allocation reads the database while holding it.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final NavigableSet<Long> inFlight = new TreeSet<>();
+    private long highest = -1;
+
+    /** The change sequence of the current transaction, allocated on first use. */
+    public long currentSequence() {
+        Long bound = (Long) TransactionSynchronizationManager.getResource(this);
+        if (bound != null) {
+            return bound;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Asset changes must be written in a transaction");
+        }
+
+        long sequence;
+        lock.lock();
+        try {
+            sequence = ++initialized().highest;
+            inFlight.add(sequence);
+        } finally {
+            lock.unlock();
+        }
+        TransactionSynchronizationManager.bindResource(this, sequence);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(AssetChangeSequencer.this);
+                release(sequence);
+            }
+        });
+        return sequence;
+    }
+
+    /** The highest sequence at or below which every writing transaction has finished. */
+    public long watermark() {
+        lock.lock();
+        try {
+            initialized();
+            return inFlight.isEmpty() ? highest : inFlight.first() - 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long sequence) {
+        lock.lock();
+        try {
+            inFlight.remove(sequence);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Plain JDBC rather than a repository: allocation can happen mid-flush.
+    private AssetChangeSequencer initialized() {
+        if (highest < 0) {
+            long assets = Objects.requireNonNull(jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(change_seq), 0) FROM assets", Long.class));
+            long deletions = Objects.requireNonNull(jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(change_seq), 0) FROM asset_deletions", Long.class));
+            highest = Math.max(assets, deletions);
+        }
+        return this;
+    }
+}
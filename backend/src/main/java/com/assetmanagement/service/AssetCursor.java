@@ -0,0 +1,78 @@
+package com.assetmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opaque keyset cursor for asset listings. The token carries the sort key,
+ * the direction and the (sort value, asset id) pair of the last row served,
+ * so the next page is a plain index range scan regardless of its depth.
+ */
+final class AssetCursor {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private AssetCursor() {
+    }
+
+    static Sort sort(AssetSortKey sortKey, Sort.Direction direction) {
+        Sort sort = Sort.by(direction, sortKey.getProperty());
+        return sortKey == AssetSortKey.ID ? sort : sort.and(Sort.by(direction, AssetSortKey.ID.getProperty()));
+    }
+
+    static ScrollPosition decode(String token, AssetSortKey sortKey, Sort.Direction direction) {
+        if (token == null || token.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        Token decoded;
+        try {
+            decoded = MAPPER.readValue(Base64.getUrlDecoder().decode(token), Token.class);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        if (!sortKey.getProperty().equals(decoded.sort()) || direction != decoded.direction()) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort order");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            if (sortKey != AssetSortKey.ID) {
+                keys.put(sortKey.getProperty(), sortKey.parse(decoded.value()));
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (decoded.id() == null) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        keys.put(AssetSortKey.ID.getProperty(), decoded.id());
+        return ScrollPosition.forward(keys);
+    }
+
+    static String encode(AssetSortKey sortKey, Sort.Direction direction, ScrollPosition position) {
+        Map<String, Object> keys = ((KeysetScrollPosition) position).getKeys();
+        Object value = sortKey == AssetSortKey.ID ? null : keys.get(sortKey.getProperty());
+        Token token = new Token(
+                sortKey.getProperty(),
+                direction,
+                value != null ? AssetSortKey.format(value) : null,
+                (String) keys.get(AssetSortKey.ID.getProperty()));
+        try {
+            byte[] json = MAPPER.writeValueAsString(token).getBytes(StandardCharsets.UTF_8);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode cursor", e);
+        }
+    }
+
+    private record Token(String sort, Sort.Direction direction, String value, String id) {
+    }
+}
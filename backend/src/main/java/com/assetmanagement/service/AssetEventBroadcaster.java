@@ -0,0 +1,266 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.dto.AssetEventDTO;
+import com.assetmanagement.dto.AssetSummaryDTO;
+import com.assetmanagement.event.AssetChangeEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pushes committed asset changes to every {@code GET /api/assets/events}
+ * subscriber, so open admin tabs no longer poll the asset list.
+ *
+ * <p>A subscriber is an async request plus a small buffer; it holds no thread
+ * while idle. Committing transactions only append to the buffers, and a
+ * subscriber with something buffered is drained by one of
+ * {@code asset.events.sender-threads} pooled senders, which take turns over
+ * all the subscribers. A client that reads slowly blocks one sender at most,
+ * and only until it is disconnected as stalled. A subscriber whose
+ * buffer overflows loses the buffered events and is sent a single
+ * {@code resync} event instead, telling it to catch up through
+ * {@code /api/assets/changes}. One that makes no progress for
+ * {@code asset.events.stall-timeout} is disconnected: its sender is
+ * interrupted, and the stream is completed once the write in progress returns.
+ */
+@Component
+public class AssetEventBroadcaster implements MeterBinder, DisposableBean {
+    public static final String CHANGE_EVENT = "asset";
+    public static final String RESYNC_EVENT = "resync";
+
+    private static final Object HEARTBEAT = new Object();
+    private static final Object RESYNC = new Object();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Executor senders;
+    private final int bufferSize;
+    private final Duration stallTimeout;
+    private final Duration timeout;
+    private final LongAdder resyncs = new LongAdder();
+    private final LongAdder stalled = new LongAdder();
+
+    public AssetEventBroadcaster(Environment environment,
+                                 @Value("${asset.events.buffer-size:256}") int bufferSize,
+                                 @Value("${asset.events.stall-timeout:45s}") Duration stallTimeout,
+                                 @Value("${asset.events.timeout:30m}") Duration timeout,
+                                 @Value("${asset.events.sender-threads:8}") int senderThreads) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // A write blocked on a slow client then parks a virtual thread, not a pool thread.
+            SimpleAsyncTaskExecutor virtualSenders = new SimpleAsyncTaskExecutor("asset-events-");
+            virtualSenders.setVirtualThreads(true);
+            this.senders = virtualSenders;
+        } else {
+            // A fixed few threads, however many subscribers there are; each drain sends one
+            // subscriber's buffer and frees the thread for the next.
+            this.senders = Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("asset-events-"));
+        }
+        this.bufferSize = bufferSize;
+        this.stallTimeout = stallTimeout;
+        this.timeout = timeout;
+    }
+
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        // Clients reconnect when the stream ends; a timeout is not an error.
+        emitter.onTimeout(emitter::complete);
+        subscribers.add(subscriber);
+        // Sends the response headers straight away, so the client sees the stream open.
+        subscriber.enqueue(HEARTBEAT);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onAssetChange(AssetChangeEvent event) {
+        AssetSummaryDTO after = event.getAfter();
+        AssetEventDTO payload = AssetEventDTO.builder()
+                .type(event.getType())
+                .id(event.getAssetId())
+                .status(after != null ? after.getStatus() : null)
+                .assignedTo(after != null ? after.getAssignedTo() : null)
+                .version(event.getVersion())
+                .build();
+        subscribers.forEach(subscriber -> subscriber.enqueue(payload));
+    }
+
+    /** Keeps idle connections open through proxies and drops subscribers that stopped reading. */
+    @Scheduled(fixedRateString = "${asset.events.heartbeat-interval:PT15S}",
+            initialDelayString = "${asset.events.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.isStalled(now)) {
+                stalled.increment();
+                subscriber.close();
+            } else {
+                subscriber.enqueue(HEARTBEAT);
+            }
+        }
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("asset.events.subscribers", this, AssetEventBroadcaster::subscriberCount)
+                .description("Open asset event streams")
+                .register(registry);
+        FunctionCounter.builder("asset.events.resyncs", resyncs, LongAdder::sum)
+                .description("Times a subscriber fell a full buffer behind and was told to resync")
+                .register(registry);
+        FunctionCounter.builder("asset.events.disconnected", stalled, LongAdder::sum)
+                .tag("reason", "stalled")
+                .description("Subscribers disconnected for not reading their stream")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        if (senders instanceof ExecutorService pool) {
+            pool.shutdownNow();
+        } else if (senders instanceof SimpleAsyncTaskExecutor virtualSenders) {
+            virtualSenders.close();
+        }
+        subscribers.forEach(Subscriber::close);
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Object> buffer = new LinkedBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean resyncPending;
+        private volatile boolean closed;
+        private volatile long lastSentNanos = System.nanoTime();
+        private volatile long sendStartedNanos;
+        private Thread sender;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized void enqueue(Object item) {
+            if (closed || resyncPending) {
+                // The resync already covers it.
+                return;
+            }
+            if (!buffer.offer(item)) {
+                buffer.clear();
+                buffer.offer(RESYNC);
+                resyncPending = true;
+                resyncs.increment();
+            }
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down.
+                }
+            }
+        }
+
+        boolean isStalled(long now) {
+            long started = sendStartedNanos;
+            return started != 0 && now - started > stallTimeout.toNanos()
+                    || !buffer.isEmpty() && now - lastSentNanos > stallTimeout.toNanos();
+        }
+
+        /**
+         * Never waits for a write in progress: completing the emitter takes the
+         * lock that write holds, so the sender completes it once it returns.
+         */
+        void close() {
+            subscribers.remove(this);
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                buffer.clear();
+                if (sender != null) {
+                    sender.interrupt();
+                    return;
+                }
+            }
+            emitter.complete();
+        }
+
+        private void drain() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                sender = Thread.currentThread();
+            }
+            try {
+                do {
+                    Object item;
+                    while (!closed && (item = buffer.poll()) != null) {
+                        if (!send(item)) {
+                            return;
+                        }
+                    }
+                    scheduled.set(false);
+                } while (!closed && !buffer.isEmpty() && scheduled.compareAndSet(false, true));
+            } finally {
+                boolean closedWhileSending;
+                synchronized (this) {
+                    sender = null;
+                    // Clears an interrupt from close() before the thread is reused.
+                    Thread.interrupted();
+                    closedWhileSending = closed;
+                }
+                if (closedWhileSending) {
+                    emitter.complete();
+                }
+            }
+        }
+
+        private boolean send(Object item) {
+            sendStartedNanos = System.nanoTime();
+            try {
+                if (item == HEARTBEAT) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else if (item == RESYNC) {
+                    // Cleared first: events committed from now on follow the resync.
+                    resyncPending = false;
+                    emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(""));
+                } else {
+                    emitter.send(SseEmitter.event().name(CHANGE_EVENT).data(item, MediaType.APPLICATION_JSON));
+                }
+                lastSentNanos = System.nanoTime();
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // The client has gone, or the stream has already been completed.
+                subscribers.remove(this);
+                return false;
+            } finally {
+                sendStartedNanos = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.assetmanagement.service;
+
+import org.springframework.http.MediaType;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public enum AssetExportFormat {
+    CSV("csv", new MediaType("text", "csv")),
+    NDJSON("ndjson", new MediaType("application", "x-ndjson"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    AssetExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static AssetExportFormat fromParameter(String format) {
+        if (format == null || format.trim().isEmpty()) {
+            return CSV;
+        }
+
+        for (AssetExportFormat exportFormat : AssetExportFormat.values()) {
+            if (exportFormat.extension.equalsIgnoreCase(format.trim())) {
+                return exportFormat;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown export format: '" + format + "'. Expected one of: " +
+                Arrays.stream(AssetExportFormat.values())
+                        .map(AssetExportFormat::getExtension)
+                        .collect(Collectors.joining(", ")));
+    }
+}
@@ -0,0 +1,92 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.dto.AssetExportRow;
+import com.assetmanagement.repository.AssetRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the full asset inventory to a stream, row by row, from a server-side
+ * cursor. Rows are projections rather than entities, so nothing accumulates in
+ * the persistence context and memory use does not depend on the table size.
+ */
+@Service
+@RequiredArgsConstructor
+public class AssetExportService {
+    private static final String[] CSV_HEADER = {"id", "name", "category", "status", "purchaseDate",
+            "assignedTo", "assigneeName", "vendor", "warrantyExpiry", "specs", "notes"};
+    // Rows written between flushes, so clients receive data steadily.
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final AssetRepository assetRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void export(AssetExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        RowWriter rowWriter = format == AssetExportFormat.CSV ? csvWriter(writer) : ndjsonWriter(writer);
+        writer.flush();
+
+        try (Stream<AssetExportRow> rows = assetRepository.streamExportRows()) {
+            Iterator<AssetExportRow> iterator = rows.iterator();
+            for (int written = 1; iterator.hasNext(); written++) {
+                rowWriter.write(iterator.next());
+                if (written % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private RowWriter csvWriter(Writer writer) throws IOException {
+        writeCsvRecord(writer, (Object[]) CSV_HEADER);
+        return row -> writeCsvRecord(writer, row.getId(), row.getName(),
+                row.getCategory().getDisplayName(), row.getStatus().getDisplayName(), row.getPurchaseDate(),
+                row.getAssignedTo(), row.getAssigneeName(), row.getVendor(), row.getWarrantyExpiry(),
+                row.getSpecs(), row.getNotes());
+    }
+
+    private RowWriter ndjsonWriter(Writer writer) {
+        ObjectWriter rowWriter = objectMapper.writerFor(AssetExportRow.class);
+        return row -> {
+            writer.write(rowWriter.writeValueAsString(row));
+            writer.write('\n');
+        };
+    }
+
+    private static void writeCsvRecord(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /** Quotes a field per RFC 4180 when it contains a delimiter, quote or line break. */
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof LocalDate date ? date.toString() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(AssetExportRow row) throws IOException;
+    }
+}
@@ -0,0 +1,239 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.event.AssetChangeEvent;
+import com.assetmanagement.model.Asset;
+import com.assetmanagement.model.AssetStatus;
+import com.assetmanagement.model.PendingAssetHistory;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Records asset history off the request path. An asset write appends its
+ * history entry to {@code pending_asset_history} in its own transaction, so
+ * the entry commits (or rolls back) with the change and the asset's existing
+ * history is never loaded. After the commit a background thread moves pending
+ * entries into {@code asset_history} in JDBC batches, one transaction per
+ * batch. Entries left behind by a crash are picked up on startup and by a
+ * periodic sweep.
+ *
+ * <p>History therefore appears in reads shortly after the change commits,
+ * not as part of it. Entries whose asset has been deleted in the meantime
+ * are dropped; a deleted user is recorded as no user.
+ *
+ * <p>When a batch fails, its entries are written one at a time so a single
+ * bad entry cannot hold back the rest. An entry that fails on its own has its
+ * {@code attempts} counted and leaves the batches; the sweep retries it until
+ * {@code asset.history.max-attempts}, after which it stays in
+ * {@code pending_asset_history} for someone to look at.
+ *
+ * <p>Like {@link AssetChangeSequencer} and the other asset change state, this
+ * writer assumes one application instance owns the database.
+ */
+@Slf4j
+@Component
+public class AssetHistoryWriter implements DisposableBean {
+    private static final String SELECT_COLUMNS =
+            "SELECT id, asset_id, date, status, user_id, notes FROM pending_asset_history ";
+    private static final String SELECT_BATCH = SELECT_COLUMNS + "WHERE attempts = 0 ORDER BY id LIMIT ? FOR UPDATE";
+    private static final String SELECT_ONE = SELECT_COLUMNS + "WHERE id = ? FOR UPDATE";
+    private static final String SELECT_BATCH_IDS =
+            "SELECT id FROM pending_asset_history WHERE attempts = 0 ORDER BY id LIMIT ?";
+    private static final String SELECT_RETRY_IDS =
+            "SELECT id FROM pending_asset_history WHERE attempts > 0 AND attempts < ? ORDER BY id";
+    private static final String COUNT_ATTEMPT = "UPDATE pending_asset_history SET attempts = attempts + 1 WHERE id = ?";
+    private static final String SELECT_ATTEMPTS = "SELECT attempts FROM pending_asset_history WHERE id = ?";
+    private static final String INSERT_HISTORY = """
+            INSERT INTO asset_history (id, asset_id, date, status, user_id, notes)
+            SELECT ?, a.asset_id, ?, ?, (SELECT u.id FROM users u WHERE u.id = ?), ?
+            FROM assets a WHERE a.asset_id = ?
+            """;
+    private static final String DELETE_PENDING = "DELETE FROM pending_asset_history WHERE id = ?";
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final ExecutorService flusher = Executors.newSingleThreadExecutor(
+            new CustomizableThreadFactory("asset-history-"));
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+    // One flush at a time, whether woken by a commit, the sweep or a direct call.
+    private final ReentrantLock lock = new ReentrantLock();
+    private String skipLocked;
+
+    public AssetHistoryWriter(EntityManager entityManager,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${asset.history.batch-size:500}") int batchSize,
+                              @Value("${asset.history.max-attempts:5}") int maxAttempts) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /** Records a history entry for the asset's current status and assignee with the caller's transaction. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Asset asset, String notes) {
+        entityManager.persist(PendingAssetHistory.builder()
+                .assetId(asset.getId())
+                .date(LocalDate.now())
+                .status(asset.getStatus())
+                .userId(asset.getAssignedUser() != null ? asset.getAssignedUser().getId() : null)
+                .notes(notes)
+                .build());
+    }
+
+    /** Drops entries not yet written for assets that are being deleted. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void discard(Collection<String> assetIds) {
+        entityManager.createQuery("DELETE FROM PendingAssetHistory p WHERE p.assetId IN :assetIds")
+                .setParameter("assetIds", assetIds)
+                .executeUpdate();
+    }
+
+    @TransactionalEventListener
+    public void onAssetChange(AssetChangeEvent event) {
+        // Commits arriving while a flush is queued ride along with it.
+        if (event.getAfter() != null && flushQueued.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                flushQueued.set(false);
+                flush();
+            });
+        }
+    }
+
+    /** Retries entries that failed on their own before, then writes everything else pending. */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${asset.history.sweep-interval:PT30S}",
+            initialDelayString = "${asset.history.sweep-interval:PT30S}")
+    public void sweep() {
+        lock.lock();
+        try {
+            jdbcTemplate.queryForList(SELECT_RETRY_IDS, Long.class, maxAttempts).forEach(this::writeOne);
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Retrying failed asset history entries did not finish; trying again on the next sweep", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Writes every pending entry that has not failed before. */
+    public void flush() {
+        lock.lock();
+        try {
+            int written;
+            do {
+                written = flushBatch();
+            } while (written == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Writing pending asset history failed; retrying on the next sweep", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int flushBatch() {
+        try {
+            return Objects.requireNonNull(transactionTemplate.execute(status ->
+                    write(jdbcTemplate.query(lock(SELECT_BATCH), this::mapPending, batchSize))));
+        } catch (RuntimeException e) {
+            log.warn("Writing a batch of pending asset history failed; writing its entries one at a time", e);
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_BATCH_IDS, Long.class, batchSize);
+            ids.forEach(this::writeOne);
+            return ids.size();
+        }
+    }
+
+    private void writeOne(long id) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    write(jdbcTemplate.query(lock(SELECT_ONE), this::mapPending, id)));
+        } catch (RuntimeException e) {
+            int attempts = Objects.requireNonNull(transactionTemplate.execute(status ->
+                    jdbcTemplate.update(COUNT_ATTEMPT, id) == 0
+                            ? 0
+                            : jdbcTemplate.queryForObject(SELECT_ATTEMPTS, Integer.class, id)));
+            if (attempts == 0) {
+                // Discarded with its asset in the meantime.
+                return;
+            }
+            if (attempts >= maxAttempts) {
+                log.error("Giving up on pending asset history entry {} after {} attempts", id, attempts, e);
+            } else {
+                log.warn("Writing pending asset history entry {} failed (attempt {})", id, attempts, e);
+            }
+        }
+    }
+
+    private PendingAssetHistory mapPending(ResultSet rs, int row) throws SQLException {
+        return PendingAssetHistory.builder()
+                .id(rs.getLong("id"))
+                .assetId(rs.getString("asset_id"))
+                .date(rs.getDate("date").toLocalDate())
+                .status(AssetStatus.valueOf(rs.getString("status")))
+                .userId(rs.getObject("user_id", Long.class))
+                .notes(rs.getString("notes"))
+                .build();
+    }
+
+    private int write(List<PendingAssetHistory> pending) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_HISTORY, pending, pending.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getId());
+            ps.setDate(2, Date.valueOf(entry.getDate()));
+            ps.setString(3, entry.getStatus().name());
+            ps.setObject(4, entry.getUserId(), Types.BIGINT);
+            ps.setString(5, entry.getNotes());
+            ps.setString(6, entry.getAssetId());
+        });
+        jdbcTemplate.batchUpdate(DELETE_PENDING, pending, pending.size(),
+                (ps, entry) -> ps.setLong(1, entry.getId()));
+        return pending.size();
+    }
+
+    // On PostgreSQL, rows locked by a delete that is discarding them are skipped rather than waited for.
+    private String lock(String select) {
+        if (skipLocked == null) {
+            String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            skipLocked = "PostgreSQL".equals(database) ? " SKIP LOCKED" : "";
+        }
+        return select + skipLocked;
+    }
+
+    @Override
+    public void destroy() {
+        flusher.shutdownNow();
+    }
+}
@@ -0,0 +1,19 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.dto.AssetSummaryDTO;
+import com.assetmanagement.model.AssetStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+/**
+ * Backend for {@code GET /api/assets?search=}. Results are ordered by
+ * relevance (descending) then asset id (descending) and keyset-paged on that
+ * pair; {@code status} is an optional filter. Selected with
+ * {@code asset.search.engine} ({@code database} by default, or {@code memory}).
+ */
+public interface AssetSearchEngine {
+    Window<AssetSummaryDTO> search(String searchTerm, AssetStatus status, ScrollPosition position, Limit limit);
+
+    long count(String searchTerm, AssetStatus status);
+}
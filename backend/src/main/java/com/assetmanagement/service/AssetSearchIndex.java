@@ -0,0 +1,561 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.dto.AssetSearchDocument;
+import com.assetmanagement.dto.AssetSummaryDTO;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over asset name, id, vendor, specs and assignee name.
+ * <p>
+ * Two levels of primitive {@code int} postings are kept: every distinct token
+ * maps to the sorted {@code docId * FIELD_COUNT + field} entries that contain
+ * it, and every character bigram maps to the ids of the vocabulary tokens that
+ * contain it. A query term is resolved against the vocabulary first (exact,
+ * prefix, infix and edit-distance matches) and only then expanded to
+ * documents, so typo tolerance costs a vocabulary probe rather than a scan of
+ * the assets.
+ * <p>
+ * Doc ids and token ids are recycled: a removed asset frees its doc slot, and
+ * a token left without postings leaves the vocabulary, so the index stays
+ * proportional to the live assets however long it runs.
+ * <p>
+ * Readers share a read lock; incremental updates take the write lock.
+ */
+class AssetSearchIndex {
+    static final int NAME = 0;
+    static final int ID = 1;
+    static final int ASSIGNEE = 2;
+    static final int VENDOR = 3;
+    static final int SPECS = 4;
+    private static final int FIELD_COUNT = 5;
+    private static final float[] FIELD_WEIGHTS = {1.0f, 1.0f, 0.8f, 0.6f, 0.5f};
+
+    private static final float EXACT = 1.0f;
+    private static final float PREFIX = 0.8f;
+    private static final float INFIX = 0.6f;
+    private static final float FUZZY = 0.5f;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> tokenIds = new HashMap<>();
+    private final NavigableMap<String, Integer> sortedTokens = new TreeMap<>();
+    private final List<String> tokens = new ArrayList<>();
+    private final List<IntList> tokenPostings = new ArrayList<>();
+    private final Map<Integer, IntList> bigramTokens = new HashMap<>();
+    private final IntList freeTokenIds = new IntList();
+    // Tokens that lost their last posting during the current update; released at its end
+    // unless the update linked them again.
+    private final IntList orphanedTokens = new IntList();
+
+    private final Map<String, Integer> docIds = new HashMap<>();
+    private final List<AssetSummaryDTO> docs = new ArrayList<>();
+    private final List<int[]> docEntries = new ArrayList<>();
+    private final Map<Long, IntList> docsByAssignee = new HashMap<>();
+    private final IntList freeDocIds = new IntList();
+    private int liveDocs;
+
+    /** A matching asset and its relevance score. */
+    record Hit(AssetSummaryDTO summary, float score) {
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            tokenIds.clear();
+            sortedTokens.clear();
+            tokens.clear();
+            tokenPostings.clear();
+            bigramTokens.clear();
+            docIds.clear();
+            docs.clear();
+            docEntries.clear();
+            docsByAssignee.clear();
+            freeTokenIds.clear();
+            orphanedTokens.clear();
+            freeDocIds.clear();
+            liveDocs = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Distinct tokens with at least one posting. */
+    int vocabularySize() {
+        lock.readLock().lock();
+        try {
+            return tokenIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Doc slots allocated, live or free. */
+    int docCapacity() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void put(AssetSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = docIds.get(document.getId());
+            int docId;
+            if (existing != null) {
+                docId = existing;
+                unlink(docId);
+                unassign(docId);
+            } else if (freeDocIds.size() > 0) {
+                docId = freeDocIds.removeLast();
+                docIds.put(document.getId(), docId);
+                liveDocs++;
+            } else {
+                docId = docs.size();
+                docIds.put(document.getId(), docId);
+                docs.add(null);
+                docEntries.add(null);
+                liveDocs++;
+            }
+
+            IntList entries = new IntList();
+            addField(entries, document.getName(), NAME);
+            addField(entries, document.getId(), ID);
+            addField(entries, document.getAssigneeName(), ASSIGNEE);
+            addField(entries, document.getVendor(), VENDOR);
+            addField(entries, document.getSpecs(), SPECS);
+            link(docId, entries.toArray());
+
+            AssetSummaryDTO summary = document.toSummary();
+            docs.set(docId, summary);
+            if (summary.getAssignedTo() != null) {
+                docsByAssignee.computeIfAbsent(summary.getAssignedTo(), key -> new IntList()).insertSorted(docId);
+            }
+            releaseOrphanedTokens();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String assetId) {
+        lock.writeLock().lock();
+        try {
+            Integer docId = docIds.remove(assetId);
+            if (docId != null) {
+                unlink(docId);
+                unassign(docId);
+                docs.set(docId, null);
+                docEntries.set(docId, null);
+                freeDocIds.add(docId);
+                liveDocs--;
+                releaseOrphanedTokens();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Re-tokenizes the assignee field of every asset assigned to the user. */
+    void renameAssignee(Long userId, String name) {
+        lock.writeLock().lock();
+        try {
+            IntList assigned = docsByAssignee.get(userId);
+            if (assigned == null) {
+                return;
+            }
+            for (int i = 0; i < assigned.size(); i++) {
+                int docId = assigned.get(i);
+                IntList entries = new IntList();
+                for (int entry : docEntries.get(docId)) {
+                    if (entry % FIELD_COUNT != ASSIGNEE) {
+                        entries.add(entry);
+                    }
+                }
+                addField(entries, name, ASSIGNEE);
+                unlink(docId);
+                link(docId, entries.toArray());
+            }
+            releaseOrphanedTokens();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Drops every asset assigned to the user, mirroring the delete cascade. */
+    void removeAssignee(Long userId) {
+        lock.writeLock().lock();
+        try {
+            IntList assigned = docsByAssignee.get(userId);
+            if (assigned == null) {
+                return;
+            }
+            for (int docId : assigned.toArray()) {
+                remove(docs.get(docId).getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns every asset matching all terms of the query, ordered by score
+     * (descending) then asset id (descending).
+     */
+    List<Hit> search(String query) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Integer, Float> scores = null;
+            for (String term : terms) {
+                Map<Integer, Float> termScores = new HashMap<>();
+                matchTokens(term).forEach((tokenId, tokenScore) -> {
+                    IntList postings = tokenPostings.get(tokenId);
+                    for (int i = 0; i < postings.size(); i++) {
+                        int entry = postings.get(i);
+                        float score = tokenScore * FIELD_WEIGHTS[entry % FIELD_COUNT];
+                        termScores.merge(entry / FIELD_COUNT, score, Math::max);
+                    }
+                });
+
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((docId, score) -> score + termScores.get(docId));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(scores.size());
+            scores.forEach((docId, score) -> hits.add(new Hit(docs.get(docId), score)));
+            hits.sort(Comparator.comparing(Hit::score)
+                    .thenComparing(hit -> hit.summary().getId())
+                    .reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Maps every vocabulary token matching the term to its best match score. */
+    private Map<Integer, Float> matchTokens(String term) {
+        Map<Integer, Float> matches = new HashMap<>();
+
+        Integer exact = tokenIds.get(term);
+        if (exact != null) {
+            matches.put(exact, EXACT);
+        }
+
+        for (int tokenId : sortedTokens.subMap(term, false, term + Character.MAX_VALUE, false).values()) {
+            matches.putIfAbsent(tokenId, PREFIX);
+        }
+
+        if (term.length() >= 2) {
+            for (int tokenId : tokensContainingAllBigrams(term)) {
+                if (!matches.containsKey(tokenId) && tokens.get(tokenId).contains(term)) {
+                    matches.put(tokenId, INFIX);
+                }
+            }
+        }
+
+        int maxEdits = maxEdits(term);
+        if (maxEdits > 0) {
+            for (int tokenId : fuzzyCandidates(term, maxEdits)) {
+                if (matches.containsKey(tokenId)) {
+                    continue;
+                }
+                int distance = boundedEditDistance(term, tokens.get(tokenId), maxEdits);
+                if (distance <= maxEdits) {
+                    matches.put(tokenId, FUZZY - 0.1f * (distance - 1));
+                }
+            }
+        }
+
+        return matches;
+    }
+
+    private int[] tokensContainingAllBigrams(String term) {
+        int[] result = null;
+        for (int i = 0; i + 1 < term.length(); i++) {
+            IntList postings = bigramTokens.get(bigram(term, i));
+            if (postings == null) {
+                return new int[0];
+            }
+            result = result == null ? postings.toArray() : IntList.intersect(result, postings);
+            if (result.length == 0) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tokens within {@code maxEdits} of the term share at least
+     * {@code bigrams - 2 * maxEdits} of its bigrams (q-gram lemma). Where that
+     * bound drops to zero (three-character terms) one shared bigram is still
+     * required, so candidates always come from bigram postings rather than a
+     * scan of the vocabulary; a typo in the middle of such a term is not
+     * corrected.
+     */
+    private Collection<Integer> fuzzyCandidates(String term, int maxEdits) {
+        int bigrams = term.length() - 1;
+        int threshold = Math.max(1, bigrams - 2 * maxEdits);
+
+        Map<Integer, Integer> overlaps = new HashMap<>();
+        for (int i = 0; i < bigrams; i++) {
+            IntList postings = bigramTokens.get(bigram(term, i));
+            if (postings != null) {
+                for (int j = 0; j < postings.size(); j++) {
+                    overlaps.merge(postings.get(j), 1, Integer::sum);
+                }
+            }
+        }
+        List<Integer> candidates = new ArrayList<>();
+        overlaps.forEach((tokenId, overlap) -> {
+            if (overlap >= threshold && Math.abs(tokens.get(tokenId).length() - term.length()) <= maxEdits) {
+                candidates.add(tokenId);
+            }
+        });
+        return candidates;
+    }
+
+    private void addField(IntList entries, String text, int field) {
+        for (String token : tokenize(text)) {
+            entries.add(tokenId(token) * FIELD_COUNT + field);
+        }
+    }
+
+    private int tokenId(String token) {
+        Integer existing = tokenIds.get(token);
+        if (existing != null) {
+            return existing;
+        }
+        int tokenId;
+        if (freeTokenIds.size() > 0) {
+            tokenId = freeTokenIds.removeLast();
+            tokens.set(tokenId, token);
+            tokenPostings.set(tokenId, new IntList());
+        } else {
+            tokenId = tokens.size();
+            tokens.add(token);
+            tokenPostings.add(new IntList());
+        }
+        tokenIds.put(token, tokenId);
+        sortedTokens.put(token, tokenId);
+        for (int i = 0; i + 1 < token.length(); i++) {
+            bigramTokens.computeIfAbsent(bigram(token, i), key -> new IntList()).insertSorted(tokenId);
+        }
+        return tokenId;
+    }
+
+    /** Drops the tokens that the current update left without postings from the vocabulary. */
+    private void releaseOrphanedTokens() {
+        for (int i = 0; i < orphanedTokens.size(); i++) {
+            int tokenId = orphanedTokens.get(i);
+            String token = tokens.get(tokenId);
+            if (token == null || tokenPostings.get(tokenId).size() > 0) {
+                continue;
+            }
+            tokenIds.remove(token);
+            sortedTokens.remove(token);
+            for (int j = 0; j + 1 < token.length(); j++) {
+                int bigram = bigram(token, j);
+                IntList postings = bigramTokens.get(bigram);
+                postings.removeSorted(tokenId);
+                if (postings.size() == 0) {
+                    bigramTokens.remove(bigram);
+                }
+            }
+            tokens.set(tokenId, null);
+            tokenPostings.set(tokenId, null);
+            freeTokenIds.add(tokenId);
+        }
+        orphanedTokens.clear();
+    }
+
+    private void link(int docId, int[] entries) {
+        docEntries.set(docId, entries);
+        for (int entry : entries) {
+            tokenPostings.get(entry / FIELD_COUNT).insertSorted(docId * FIELD_COUNT + entry % FIELD_COUNT);
+        }
+    }
+
+    private void unlink(int docId) {
+        int[] entries = docEntries.get(docId);
+        if (entries != null) {
+            for (int entry : entries) {
+                IntList postings = tokenPostings.get(entry / FIELD_COUNT);
+                postings.removeSorted(docId * FIELD_COUNT + entry % FIELD_COUNT);
+                if (postings.size() == 0) {
+                    orphanedTokens.add(entry / FIELD_COUNT);
+                }
+            }
+        }
+    }
+
+    private void unassign(int docId) {
+        AssetSummaryDTO summary = docs.get(docId);
+        if (summary != null && summary.getAssignedTo() != null) {
+            IntList assigned = docsByAssignee.get(summary.getAssignedTo());
+            if (assigned != null) {
+                assigned.removeSorted(docId);
+                if (assigned.size() == 0) {
+                    docsByAssignee.remove(summary.getAssignedTo());
+                }
+            }
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        List<String> result = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty() && !result.contains(token)) {
+                result.add(token);
+            }
+        }
+        return result;
+    }
+
+    /** No typo tolerance below three characters, one edit up to five, two beyond. */
+    static int maxEdits(String term) {
+        if (term.length() < 3) {
+            return 0;
+        }
+        return term.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Levenshtein distance restricted to a diagonal band of width
+     * {@code maxEdits}; returns {@code maxEdits + 1} as soon as the bound is
+     * exceeded.
+     */
+    static int boundedEditDistance(String a, String b, int maxEdits) {
+        if (Math.abs(a.length() - b.length()) > maxEdits) {
+            return maxEdits + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            Arrays.fill(current, maxEdits + 1);
+            current[0] = i;
+            int rowMin = current[0];
+            int from = Math.max(1, i - maxEdits);
+            int to = Math.min(b.length(), i + maxEdits);
+            for (int j = from; j <= to; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], maxEdits + 1);
+    }
+
+    private static int bigram(String text, int index) {
+        return (text.charAt(index) << 16) | text.charAt(index + 1);
+    }
+
+    /** Growable array of primitive ints, kept sorted by the callers that need it. */
+    static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void insertSorted(int value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                return;
+            }
+            index = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = value;
+            size++;
+        }
+
+        void removeSorted(int value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, size - index - 1);
+                size--;
+            }
+        }
+
+        int removeLast() {
+            return values[--size];
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        static int[] intersect(int[] sorted, IntList other) {
+            int[] result = new int[Math.min(sorted.length, other.size)];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < sorted.length && j < other.size) {
+                if (sorted[i] < other.values[j]) {
+                    i++;
+                } else if (sorted[i] > other.values[j]) {
+                    j++;
+                } else {
+                    result[n++] = sorted[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, n);
+        }
+    }
+}
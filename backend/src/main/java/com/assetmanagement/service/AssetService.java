@@ -1,45 +1,123 @@
 package com.assetmanagement.service;
 
 import com.assetmanagement.dto.*;
+import com.assetmanagement.event.AssetChangeEvent;
+import com.assetmanagement.exception.BatchRejectedException;
+import com.assetmanagement.exception.PreconditionFailedException;
 import com.assetmanagement.exception.ResourceNotFoundException;
 import com.assetmanagement.model.*;
 import com.assetmanagement.repository.*;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.*;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "asset.service", description = "Asset service operations")
 public class AssetService {
+    public static final int MAX_BATCH_SIZE = 10_000;
+    // Items written between persistence-context flushes in batch operations.
+    private static final int BATCH_CHUNK_SIZE = 500;
+    private static final String CREATED_NOTES = "Asset created";
+
     private final AssetRepository assetRepository;
+    private final AssetHistoryRepository assetHistoryRepository;
+    private final AssetDeletionRepository assetDeletionRepository;
+    private final AssetChangeSequencer assetChangeSequencer;
+    private final AssetHistoryWriter assetHistoryWriter;
+    private final WarrantyAlertRepository warrantyAlertRepository;
+    private final ObjectMapper objectMapper;
     private final UserRepository userRepository;
+    private final AssetSearchEngine assetSearchEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final Validator validator;
 
-    public List<AssetDTO> getAllAssets() {
-        return assetRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<AssetSummaryDTO> getAllAssets(AssetPageRequest pageRequest) {
+        return fetchPage(null, pageRequest, assetRepository::count);
     }
 
+    @Transactional(readOnly = true)
+    public long getAssetVersion(String id) {
+        return assetRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Asset not found with id: " + id));
+    }
+
+    @Transactional(readOnly = true)
     public AssetDTO getAssetById(String id) {
-        Asset asset = assetRepository.findById(id)
+        Asset asset = assetRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Asset not found with id: " + id));
         return convertToDTO(asset);
     }
 
-    public List<AssetDTO> searchAssets(String searchTerm) {
-        return assetRepository.searchAssets(searchTerm).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<AssetHistoryDTO> getAssetHistory(String id, Pageable pageable) {
+        if (!assetRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Asset not found with id: " + id);
+        }
+        Pageable newestFirst = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                Sort.by(Sort.Direction.DESC, "id"));
+        return assetHistoryRepository.findByAssetIdOrderByDateDesc(id, newestFirst)
+                .map(this::convertHistoryToDTO);
     }
 
-    public List<AssetDTO> getAssetsByStatus(AssetStatus status) {
-        return assetRepository.findByStatus(status).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<AssetSummaryDTO> searchAssets(String searchTerm, AssetStatus status,
+                                                    AssetPageRequest pageRequest) {
+        // Search results are always ranked by relevance; the requested sort key does not apply.
+        ScrollPosition position = AssetCursor.decode(pageRequest.getCursor(),
+                AssetSortKey.RELEVANCE, Sort.Direction.DESC);
+        Window<AssetSummaryDTO> window = assetSearchEngine.search(searchTerm, status, position,
+                Limit.of(pageRequest.getLimit()));
+        return toCursorPage(window, AssetSortKey.RELEVANCE, Sort.Direction.DESC, pageRequest,
+                () -> assetSearchEngine.count(searchTerm, status));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<AssetSummaryDTO> getAssetsByStatus(AssetStatus status, AssetPageRequest pageRequest) {
+        return fetchPage(status, pageRequest, () -> assetRepository.countByStatus(status));
+    }
+
+    private CursorPage<AssetSummaryDTO> fetchPage(AssetStatus status, AssetPageRequest pageRequest,
+                                                  LongSupplier counter) {
+        AssetSortKey sortKey = AssetSortKey.fromProperty(pageRequest.getSort());
+        Sort.Direction direction = Sort.Direction.fromString(pageRequest.getDirection());
+        ScrollPosition position = AssetCursor.decode(pageRequest.getCursor(), sortKey, direction);
+
+        Window<AssetSummaryDTO> window = assetRepository.findSummaries(status, position,
+                AssetCursor.sort(sortKey, direction), Limit.of(pageRequest.getLimit()));
+        return toCursorPage(window, sortKey, direction, pageRequest, counter);
+    }
+
+    private CursorPage<AssetSummaryDTO> toCursorPage(Window<AssetSummaryDTO> window, AssetSortKey sortKey,
+                                                     Sort.Direction direction, AssetPageRequest pageRequest,
+                                                     LongSupplier counter) {
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? AssetCursor.encode(sortKey, direction, window.positionAt(window.size() - 1))
+                : null;
+
+        return CursorPage.<AssetSummaryDTO>builder()
+                .items(window.getContent())
+                .nextCursor(nextCursor)
+                .totalCount(pageRequest.isIncludeTotal() ? counter.getAsLong() : null)
+                .build();
     }
 
     @Transactional
@@ -49,76 +127,396 @@ public class AssetService {
         }
 
 
-        Asset asset = convertToEntity(assetDTO);
+        Asset asset = convertToEntity(assetDTO, this::findUser);
+        Asset savedAsset = assetRepository.save(asset);
+        assetHistoryWriter.append(savedAsset, CREATED_NOTES);
+        eventPublisher.publishEvent(AssetChangeEvent.created(convertToSummary(savedAsset), savedAsset.getVersion()));
+        return convertToWriteResult(savedAsset);
+    }
 
-        if (asset.getHistory() == null) {
-            asset.setHistory(new ArrayList<>());
-        }
+    /**
+     * Updates the asset only if it is still at {@code expectedVersion}, or, when
+     * that is not given, at the {@code version} the client sent in the body (if
+     * any); otherwise throws {@link PreconditionFailedException}. Edits committed
+     * between this check and the update are caught by the version column instead.
+     */
+    @Transactional
+    public AssetDTO updateAsset(String id, AssetDTO assetDTO, Long expectedVersion) {
+        Long version = expectedVersion != null ? expectedVersion : assetDTO.getVersion();
+        return applyUpdate(findForUpdate(id, version), assetDTO);
+    }
 
-        AssetHistory history = AssetHistory.builder()
-                .asset(asset)
-                .date(LocalDate.now())
-                .status(asset.getStatus())
-                .user(asset.getAssignedUser())
-                .notes("Asset created")
-                .build();
-        asset.getHistory().add(history);
+    /**
+     * Applies a JSON Merge Patch (RFC 7386) to the asset: members present in
+     * {@code patch} replace the current values, {@code null} clears them, and
+     * everything else is left as it is. Only the columns that actually change
+     * are written. {@code expectedVersion} works as for {@link #updateAsset}.
+     */
+    @Transactional
+    public AssetDTO patchAsset(String id, JsonNode patch, Long expectedVersion) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("A merge patch must be a JSON object");
+        }
+        Asset asset = findForUpdate(id, expectedVersion);
 
-        Asset savedAsset = assetRepository.save(asset);
-        return convertToDTO(savedAsset);
+        AssetDTO patched;
+        try {
+            patched = objectMapper.readerForUpdating(convertToWriteResult(asset)).readValue(patch);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid merge patch: " + e.getMessage());
+        }
+        if (!id.equals(patched.getId())) {
+            throw new IllegalArgumentException("Asset ID cannot be changed");
+        }
+        validate(patched);
+        return applyUpdate(asset, patched);
     }
 
-    @Transactional
-    public AssetDTO updateAsset(String id, AssetDTO assetDTO) {
+    // Loads the asset without its history and checks expectedVersion as updateAsset describes.
+    private Asset findForUpdate(String id, Long expectedVersion) {
         Asset asset = assetRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Asset not found with id: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(asset.getVersion())) {
+            throw new PreconditionFailedException("Asset " + id + " has been modified since version " + expectedVersion);
+        }
+        return asset;
+    }
 
+    private AssetDTO applyUpdate(Asset asset, AssetDTO assetDTO) {
+        AssetSummaryDTO before = convertToSummary(asset);
         AssetStatus oldStatus = asset.getStatus();
         Long oldAssignedUserId = asset.getAssignedUser() != null ?
                 asset.getAssignedUser().getId() : null;
 
-        updateAssetFields(asset, assetDTO);
+        updateAssetFields(asset, assetDTO, this::findUser);
 
-        Long newAssignedUserId = asset.getAssignedUser() != null ?
-                asset.getAssignedUser().getId() : null;
+        String changeNotes = changeNotes(asset, oldStatus, oldAssignedUserId);
+        if (changeNotes != null) {
+            assetHistoryWriter.append(asset, changeNotes);
+        }
+
+        // Flushed now so the returned DTO carries the incremented version.
+        Asset updatedAsset = assetRepository.saveAndFlush(asset);
+        eventPublisher.publishEvent(AssetChangeEvent.updated(
+                before, convertToSummary(updatedAsset), updatedAsset.getVersion()));
+        return convertToWriteResult(updatedAsset);
+    }
+
+
+    /**
+     * Creates each asset with its "Asset created" history entry. Invalid items are
+     * reported in the response and skipped; the valid ones are still inserted.
+     * Referenced users are resolved in one query and rows are written in JDBC batches.
+     * Items are checked against the column limits, known ids and users before
+     * anything is written; should the database still reject a chunk, the whole
+     * batch is rolled back with a {@link BatchRejectedException}.
+     */
+    @Transactional
+    public AssetBatchResponse createAssets(List<AssetDTO> assetDTOs) {
+        checkBatchSize(assetDTOs);
+        Function<Long, User> users = preloadUsers(assetDTOs);
+        Set<String> seenIds = new HashSet<>();
+        List<AssetBatchItemResult> results = new ArrayList<>(assetDTOs.size());
 
-        if (!oldStatus.equals(asset.getStatus()) ||
-                !java.util.Objects.equals(oldAssignedUserId, newAssignedUserId)) {
+        for (int from = 0; from < assetDTOs.size(); from += BATCH_CHUNK_SIZE) {
+            List<AssetDTO> chunk = assetDTOs.subList(from, Math.min(assetDTOs.size(), from + BATCH_CHUNK_SIZE));
+            Set<String> existingIds = assetRepository.findExistingIds(batchIds(chunk));
 
-            StringBuilder notes = new StringBuilder();
-            if (!oldStatus.equals(asset.getStatus())) {
-                notes.append("Status changed from ").append(oldStatus)
-                        .append(" to ").append(asset.getStatus());
+            for (int i = 0; i < chunk.size(); i++) {
+                AssetDTO dto = chunk.get(i);
+                results.add(processBatchItem(from + i, dto, HttpStatus.CREATED, () -> {
+                    if (!seenIds.add(dto.getId())) {
+                        throw new IllegalArgumentException("Duplicate asset ID in batch");
+                    }
+                    if (existingIds.contains(dto.getId())) {
+                        throw new IllegalArgumentException("Asset ID already exists");
+                    }
+                    Asset asset = convertToEntity(dto, users);
+                    entityManager.persist(asset);
+                    assetHistoryWriter.append(asset, CREATED_NOTES);
+                    eventPublisher.publishEvent(AssetChangeEvent.created(convertToSummary(asset), asset.getVersion()));
+                }));
             }
-            if (!java.util.Objects.equals(oldAssignedUserId, newAssignedUserId)) {
-                if (!notes.isEmpty()) notes.append(". ");
-                notes.append("Reassignment");
+            flushChunk(from, chunk.size());
+            entityManager.clear();
+        }
+        return toBatchResponse(results);
+    }
+
+    /**
+     * Applies each item as {@link #updateAsset} would, reporting invalid or unknown
+     * items in the response without failing the rest of the batch. As with
+     * {@link #createAssets}, a chunk the database rejects rolls back the whole batch.
+     */
+    @Transactional
+    public AssetBatchResponse updateAssets(List<AssetDTO> assetDTOs) {
+        checkBatchSize(assetDTOs);
+        Function<Long, User> users = preloadUsers(assetDTOs);
+        Set<String> seenIds = new HashSet<>();
+        List<AssetBatchItemResult> results = new ArrayList<>(assetDTOs.size());
+
+        for (int from = 0; from < assetDTOs.size(); from += BATCH_CHUNK_SIZE) {
+            List<AssetDTO> chunk = assetDTOs.subList(from, Math.min(assetDTOs.size(), from + BATCH_CHUNK_SIZE));
+            Map<String, AssetSummaryDTO> updated = new LinkedHashMap<>();
+            Map<String, Asset> assets = assetRepository.findAllById(batchIds(chunk)).stream()
+                    .collect(Collectors.toMap(Asset::getId, Function.identity()));
+
+            for (int i = 0; i < chunk.size(); i++) {
+                AssetDTO dto = chunk.get(i);
+                results.add(processBatchItem(from + i, dto, HttpStatus.OK, () -> {
+                    if (!seenIds.add(dto.getId())) {
+                        throw new IllegalArgumentException("Duplicate asset ID in batch");
+                    }
+                    Asset asset = assets.get(dto.getId());
+                    if (asset == null) {
+                        throw new ResourceNotFoundException("Asset not found with id: " + dto.getId());
+                    }
+
+                    AssetSummaryDTO before = convertToSummary(asset);
+                    AssetStatus oldStatus = asset.getStatus();
+                    Long oldAssignedUserId = asset.getAssignedUser() != null ?
+                            asset.getAssignedUser().getId() : null;
+
+                    updateAssetFields(asset, dto, users);
+
+                    String changeNotes = changeNotes(asset, oldStatus, oldAssignedUserId);
+                    if (changeNotes != null) {
+                        assetHistoryWriter.append(asset, changeNotes);
+                    }
+                    updated.put(asset.getId(), before);
+                }));
             }
+            flushChunk(from, chunk.size());
+            // Published after the flush so the events carry the incremented versions.
+            updated.forEach((id, before) -> {
+                Asset asset = assets.get(id);
+                eventPublisher.publishEvent(AssetChangeEvent.updated(before, convertToSummary(asset), asset.getVersion()));
+            });
+            entityManager.clear();
+        }
+        return toBatchResponse(results);
+    }
 
-            AssetHistory history = AssetHistory.builder()
-                    .asset(asset)
-                    .date(LocalDate.now())
-                    .status(asset.getStatus())
-                    .user(asset.getAssignedUser())
-                    .notes(notes.toString())
-                    .build();
-            asset.getHistory().add(history);
+    private void flushChunk(int from, int size) {
+        try {
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            throw new BatchRejectedException(from, from + size - 1, e);
         }
+    }
+
+    private void checkBatchSize(List<AssetDTO> assetDTOs) {
+        if (assetDTOs.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch may contain at most " + MAX_BATCH_SIZE + " assets");
+        }
+    }
 
-        Asset updatedAsset = assetRepository.save(asset);
-        return convertToDTO(updatedAsset);
+    private Function<Long, User> preloadUsers(List<AssetDTO> assetDTOs) {
+        Set<Long> userIds = assetDTOs.stream()
+                .filter(Objects::nonNull)
+                .map(AssetDTO::getAssignedTo)
+                .filter(userId -> userId != null && userId > 0)
+                .collect(Collectors.toSet());
+        Map<Long, User> users = userIds.isEmpty() ? Map.of() : userRepository.findByIdIn(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return userId -> Optional.ofNullable(users.get(userId))
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
 
+    private static List<String> batchIds(List<AssetDTO> chunk) {
+        return chunk.stream()
+                .filter(dto -> dto != null && dto.getId() != null)
+                .map(AssetDTO::getId)
+                .toList();
+    }
+
+    private AssetBatchItemResult processBatchItem(int index, AssetDTO dto, HttpStatus success, Runnable action) {
+        AssetBatchItemResult.AssetBatchItemResultBuilder result = AssetBatchItemResult.builder()
+                .index(index)
+                .id(dto != null ? dto.getId() : null);
+        try {
+            validate(dto);
+            action.run();
+            return result.status(success.value()).build();
+        } catch (ResourceNotFoundException e) {
+            return result.status(HttpStatus.NOT_FOUND.value()).error(e.getMessage()).build();
+        } catch (IllegalArgumentException e) {
+            return result.status(HttpStatus.BAD_REQUEST.value()).error(e.getMessage()).build();
+        }
+    }
+
+    private void validate(AssetDTO dto) {
+        if (dto == null) {
+            throw new IllegalArgumentException("Asset is required");
+        }
+        Set<ConstraintViolation<AssetDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+    }
 
+    private static AssetBatchResponse toBatchResponse(List<AssetBatchItemResult> results) {
+        int succeeded = (int) results.stream().filter(result -> result.getError() == null).count();
+        return AssetBatchResponse.builder()
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .items(results)
+                .build();
+    }
+
+    /**
+     * Moves every asset selected by id or by filter to the requested status
+     * and/or assignee with set-based statements: the matched rows are locked
+     * and read in one query, then the ones that actually change are updated in
+     * one UPDATE and get their history in one INSERT per distinct set of notes.
+     * Unknown ids are skipped.
+     * All or nothing: selecting more than
+     * {@value AssetBulkTransitionRequest#MAX_ASSETS} assets changes none.
+     */
+    @Transactional
+    public AssetBulkTransitionResponse transitionAssets(AssetBulkTransitionRequest request) {
+        boolean byIds = request.getIds() != null;
+        if (byIds == (request.getFilter() != null)) {
+            throw new IllegalArgumentException("Either ids or a filter is required, but not both");
+        }
+        if (!byIds && request.getFilter().isEmpty()) {
+            throw new IllegalArgumentException("The filter must set at least one field");
+        }
+        if (request.getStatus() == null && request.getAssignedTo() == null) {
+            throw new IllegalArgumentException("A target status or assignedTo is required");
+        }
+        boolean reassign = request.getAssignedTo() != null;
+        User assignee = reassign && request.getAssignedTo() > 0 ? findUser(request.getAssignedTo()) : null;
+        Long assigneeId = assignee != null ? assignee.getId() : null;
+
+        List<LockedAssetSummary> matched = byIds
+                ? assetRepository.lockSummaries(request.getIds().stream().filter(Objects::nonNull).distinct().toList())
+                : assetRepository.lockSummaries(request.getFilter(), AssetBulkTransitionRequest.MAX_ASSETS + 1);
+        if (matched.size() > AssetBulkTransitionRequest.MAX_ASSETS) {
+            throw new IllegalArgumentException(
+                    "The filter selects more than " + AssetBulkTransitionRequest.MAX_ASSETS + " assets");
+        }
+
+        // Notes depend only on each asset's old status and assignee, so they fall into a few groups.
+        Map<String, List<String>> idsByNotes = new LinkedHashMap<>();
+        List<AssetChangeEvent> events = new ArrayList<>();
+        for (LockedAssetSummary locked : matched) {
+            AssetSummaryDTO before = locked.summary();
+            AssetSummaryDTO after = before.toBuilder()
+                    .status(request.getStatus() != null ? request.getStatus() : before.getStatus())
+                    .assignedTo(reassign ? assigneeId : before.getAssignedTo())
+                    .build();
+            String notes = changeNotes(before.getStatus(), after.getStatus(),
+                    before.getAssignedTo(), after.getAssignedTo());
+            if (notes != null) {
+                idsByNotes.computeIfAbsent(notes, key -> new ArrayList<>()).add(before.getId());
+                events.add(AssetChangeEvent.updated(before, after, locked.version() + 1));
+            }
+        }
+
+        if (!events.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            assetRepository.transition(events.stream().map(AssetChangeEvent::getAssetId).toList(),
+                    request.getStatus(), reassign, assigneeId, assetChangeSequencer.currentSequence(), now);
+            idsByNotes.forEach((notes, ids) ->
+                    assetHistoryRepository.recordCurrentStates(ids.toArray(String[]::new), now.toLocalDate(), notes));
+            events.forEach(eventPublisher::publishEvent);
+        }
+
+        return AssetBulkTransitionResponse.builder()
+                .matched(matched.size())
+                .updated(events.size())
+                .build();
+    }
+
+    /**
+     * Deletes the asset and its history with a few set-based statements; the
+     * history is never loaded.
+     */
     @Transactional
     public void deleteAsset(String id) {
-        if (!assetRepository.existsById(id)) {
+        if (delete(List.of(id)) == 0) {
             throw new ResourceNotFoundException("Asset not found with id: " + id);
         }
-        assetRepository.deleteById(id);
     }
 
-    private void updateAssetFields(Asset asset, AssetDTO dto) {
+    /**
+     * Deletes up to {@value #MAX_BATCH_SIZE} assets and their history with the
+     * same statements as {@link #deleteAsset}, however many assets there are.
+     * Unknown ids are skipped; returns how many assets were deleted.
+     */
+    @Transactional
+    public int deleteAssets(List<String> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " assets may be deleted at once");
+        }
+        return delete(ids.stream().filter(Objects::nonNull).distinct().toList());
+    }
+
+    private int delete(List<String> ids) {
+        List<LockedAssetSummary> locked = assetRepository.lockSummaries(ids);
+        if (locked.isEmpty()) {
+            return 0;
+        }
+        List<String> lockedIds = locked.stream().map(asset -> asset.summary().getId()).toList();
+        String[] lockedIdArray = lockedIds.toArray(String[]::new);
+        assetHistoryWriter.discard(lockedIds);
+        assetDeletionRepository.recordDeletions(lockedIdArray, assetChangeSequencer.currentSequence(),
+                LocalDateTime.now());
+        assetHistoryRepository.deleteByAssetIds(lockedIdArray);
+        warrantyAlertRepository.deleteByAssetIds(lockedIdArray);
+        assetRepository.deleteInBulk(lockedIdArray);
+        locked.forEach(asset -> eventPublisher.publishEvent(
+                AssetChangeEvent.deleted(asset.summary(), asset.version())));
+        return locked.size();
+    }
+
+    private String changeNotes(Asset asset, AssetStatus oldStatus, Long oldAssignedUserId) {
+        Long newAssignedUserId = asset.getAssignedUser() != null ?
+                asset.getAssignedUser().getId() : null;
+        return changeNotes(oldStatus, asset.getStatus(), oldAssignedUserId, newAssignedUserId);
+    }
+
+    /** Returns the history notes for a status or assignee change, or {@code null} if neither changed. */
+    private static String changeNotes(AssetStatus oldStatus, AssetStatus newStatus,
+                                      Long oldAssignedUserId, Long newAssignedUserId) {
+        boolean statusChanged = !oldStatus.equals(newStatus);
+        boolean reassigned = !Objects.equals(oldAssignedUserId, newAssignedUserId);
+
+        if (!statusChanged && !reassigned) {
+            return null;
+        }
+
+        StringBuilder notes = new StringBuilder();
+        if (statusChanged) {
+            notes.append("Status changed from ").append(oldStatus)
+                    .append(" to ").append(newStatus);
+        }
+        if (reassigned) {
+            if (!notes.isEmpty()) notes.append(". ");
+            notes.append("Reassignment");
+        }
+
+        return notes.toString();
+    }
+
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+
+    private void updateAssetFields(Asset asset, AssetDTO dto, Function<Long, User> users) {
+        // Resolve the assignee first so a failed lookup leaves the asset untouched.
+        // An unchanged assignee is kept as is, without a lookup.
+        Long assignedTo = dto.getAssignedTo() != null && dto.getAssignedTo() > 0 ? dto.getAssignedTo() : null;
+        User currentUser = asset.getAssignedUser();
+        User assignedUser = assignedTo == null ? null
+                : currentUser != null && assignedTo.equals(currentUser.getId()) ? currentUser
+                : users.apply(assignedTo);
+
         asset.setName(dto.getName());
         asset.setCategory(dto.getCategory());
         asset.setStatus(dto.getStatus());
@@ -127,17 +525,25 @@ public class AssetService {
         asset.setVendor(dto.getVendor());
         asset.setWarrantyExpiry(dto.getWarrantyExpiry());
         asset.setSpecs(dto.getSpecs());
+        asset.setAssignedUser(assignedUser);
+    }
 
-        if (dto.getAssignedTo() != null && dto.getAssignedTo() > 0) {
-            User user = userRepository.findById(dto.getAssignedTo())
-                    .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-            asset.setAssignedUser(user);
-        } else {
-            asset.setAssignedUser(null);
-        }
+    // Package-private for AssetMappingBenchmark.
+    AssetDTO convertToDTO(Asset asset) {
+        return detailsBuilder(asset)
+                .history(asset.getHistory().stream()
+                        .map(this::convertHistoryToDTO)
+                        .collect(Collectors.toList()))
+                .build();
     }
 
-    private AssetDTO convertToDTO(Asset asset) {
+    // Write responses leave out the history: the new entry is written after the response,
+    // and reading back the rest would load the history the write avoided.
+    private AssetDTO convertToWriteResult(Asset asset) {
+        return detailsBuilder(asset).build();
+    }
+
+    private AssetDTO.AssetDTOBuilder detailsBuilder(Asset asset) {
         return AssetDTO.builder()
                 .id(asset.getId())
                 .name(asset.getName())
@@ -150,13 +556,24 @@ public class AssetService {
                 .vendor(asset.getVendor())
                 .warrantyExpiry(asset.getWarrantyExpiry())
                 .specs(asset.getSpecs())
-                .history(asset.getHistory().stream()
-                        .map(this::convertHistoryToDTO)
-                        .collect(Collectors.toList()))
+                .version(asset.getVersion());
+    }
+
+    private AssetSummaryDTO convertToSummary(Asset asset) {
+        return AssetSummaryDTO.builder()
+                .id(asset.getId())
+                .name(asset.getName())
+                .category(asset.getCategory())
+                .status(asset.getStatus())
+                .purchaseDate(asset.getPurchaseDate())
+                .assignedTo(asset.getAssignedUser() != null ?
+                        asset.getAssignedUser().getId() : null)
+                .vendor(asset.getVendor())
+                .warrantyExpiry(asset.getWarrantyExpiry())
                 .build();
     }
 
-    private Asset convertToEntity(AssetDTO dto) {
+    private Asset convertToEntity(AssetDTO dto, Function<Long, User> users) {
         Asset asset = Asset.builder()
                 .id(dto.getId())
                 .name(dto.getName())
@@ -170,9 +587,7 @@ public class AssetService {
                 .build();
 
         if (dto.getAssignedTo() != null) {
-            User user = userRepository.findById(dto.getAssignedTo())
-                    .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-            asset.setAssignedUser(user);
+            asset.setAssignedUser(users.apply(dto.getAssignedTo()));
         }
 
         return asset;
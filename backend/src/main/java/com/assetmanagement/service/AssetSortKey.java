@@ -0,0 +1,74 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.model.AssetCategory;
+import com.assetmanagement.model.AssetStatus;
+import com.assetmanagement.repository.AssetRepositoryCustom;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Columns an asset listing can be ordered by. Only non-null columns are
+ * allowed so that every row has a well-defined keyset position; the asset id
+ * is always appended as the tie-breaker.
+ */
+public enum AssetSortKey {
+    ID("id", Function.identity()),
+    NAME("name", Function.identity()),
+    CATEGORY("category", AssetCategory::valueOf),
+    STATUS("status", AssetStatus::valueOf),
+    PURCHASE_DATE("purchaseDate", LocalDate::parse),
+    VENDOR("vendor", Function.identity()),
+    /** Search rank; only used by search results and never selectable by clients. */
+    RELEVANCE(AssetRepositoryCustom.RELEVANCE, Float::valueOf, false);
+
+    private final String property;
+    private final Function<String, ?> parser;
+    private final boolean selectable;
+
+    AssetSortKey(String property, Function<String, ?> parser) {
+        this(property, parser, true);
+    }
+
+    AssetSortKey(String property, Function<String, ?> parser, boolean selectable) {
+        this.property = property;
+        this.parser = parser;
+        this.selectable = selectable;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    Object parse(String value) {
+        return parser.apply(value);
+    }
+
+    static String format(Object value) {
+        return value instanceof Enum<?> e ? e.name() : value.toString();
+    }
+
+    public static AssetSortKey fromProperty(String property) {
+        if (property == null || property.trim().isEmpty()) {
+            return ID;
+        }
+
+        String trimmed = property.trim();
+
+        for (AssetSortKey key : AssetSortKey.values()) {
+            if (!key.selectable) {
+                continue;
+            }
+            if (key.property.equalsIgnoreCase(trimmed) || key.name().equalsIgnoreCase(trimmed)) {
+                return key;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown sort key: '" + property + "'. Expected one of: " +
+                Arrays.stream(AssetSortKey.values())
+                        .filter(key -> key.selectable)
+                        .map(AssetSortKey::getProperty)
+                        .collect(Collectors.joining(", ")));
+    }
+}
@@ -0,0 +1,255 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.dto.AssetStatsDTO;
+import com.assetmanagement.dto.AssetSummaryDTO;
+import com.assetmanagement.event.AssetChangeEvent;
+import com.assetmanagement.event.UserChangeEvent;
+import com.assetmanagement.model.AssetCategory;
+import com.assetmanagement.model.AssetStatus;
+import com.assetmanagement.repository.AssetRepository;
+import com.assetmanagement.repository.GroupCount;
+import com.assetmanagement.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Dashboard breakdowns of the asset inventory, served from in-memory counters.
+ * The counters are built with {@code GROUP BY} queries, adjusted by delta from
+ * committed asset and user changes, and periodically rebuilt so that writes
+ * made outside the services cannot leave them wrong for long. Changes committed
+ * while a rebuild is counting are replayed on top of it rather than dropped.
+ */
+@Slf4j
+@Service
+public class AssetStatsService {
+    private static final String UNKNOWN_DEPARTMENT = "Unknown";
+
+    private final AssetRepository assetRepository;
+    private final UserRepository userRepository;
+    // All the counting queries in one read-only snapshot of their own, whether reconcile() is
+    // called by the scheduler, from getStats() or from inside another transaction.
+    private final TransactionTemplate snapshot;
+
+    @Value("${asset.stats.warranty-windows:30,60,90}")
+    private List<Integer> warrantyWindows;
+
+    // Held for in-memory work only; reconcile() runs its queries outside it, so committing
+    // threads never wait for a rebuild.
+    private final ReentrantLock lock = new ReentrantLock();
+    private Counters counters;
+    private LocalDateTime reconciledAt;
+    // One backlog per reconcile() in progress: the changes committed since it started counting.
+    private final Set<List<Consumer<Counters>>> backlogs = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public AssetStatsService(AssetRepository assetRepository, UserRepository userRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.assetRepository = assetRepository;
+        this.userRepository = userRepository;
+        this.snapshot = new TransactionTemplate(transactionManager);
+        snapshot.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        snapshot.setReadOnly(true);
+    }
+
+    public AssetStatsDTO getStats() {
+        lock.lock();
+        try {
+            if (counters != null) {
+                return counters.toDTO(warrantyWindows, LocalDate.now(), reconciledAt);
+            }
+        } finally {
+            lock.unlock();
+        }
+        // Only before the startup build has finished.
+        reconcile();
+        return getStats();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${asset.stats.reconcile-interval:PT10M}",
+            initialDelayString = "${asset.stats.reconcile-interval:PT10M}")
+    public void reconcile() {
+        // Registered before the first query takes the snapshot, so that a change committed after
+        // it is either replayed below or, if it landed just before, at worst counted twice until
+        // the next reconcile; never lost.
+        List<Consumer<Counters>> backlog = new ArrayList<>();
+        lock.lock();
+        try {
+            backlogs.add(backlog);
+        } finally {
+            lock.unlock();
+        }
+        try {
+            swap(snapshot.execute(status -> count()), backlog);
+        } finally {
+            lock.lock();
+            try {
+                backlogs.remove(backlog);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private Counters count() {
+        Counters rebuilt = new Counters();
+        userRepository.findAllUserDepartments().forEach(user ->
+                rebuilt.departmentOfUser.put(user.getUserId(), user.getDepartmentName()));
+        assetRepository.countGroupedByStatus().forEach(row -> {
+            rebuilt.byStatus.put(row.getBucket(), row.getTotal());
+            rebuilt.total += row.getTotal();
+        });
+        assetRepository.countGroupedByCategory().forEach(row -> rebuilt.byCategory.put(row.getBucket(), row.getTotal()));
+        assetRepository.countGroupedByVendor().forEach(row -> rebuilt.byVendor.put(row.getBucket(), row.getTotal()));
+        rebuilt.unassigned = rebuilt.total;
+        for (GroupCount<Long> row : assetRepository.countGroupedByAssignee()) {
+            rebuilt.byAssignee.put(row.getBucket(), row.getTotal());
+            adjust(rebuilt.byDepartment, rebuilt.departmentOf(row.getBucket()), row.getTotal());
+            rebuilt.unassigned -= row.getTotal();
+        }
+        assetRepository.countGroupedByWarrantyExpiryFrom(LocalDate.now())
+                .forEach(row -> rebuilt.warrantyExpiries.put(row.getBucket(), row.getTotal()));
+        return rebuilt;
+    }
+
+    private void swap(Counters rebuilt, List<Consumer<Counters>> backlog) {
+        lock.lock();
+        try {
+            backlog.forEach(change -> change.accept(rebuilt));
+            if (counters != null && counters.total != rebuilt.total) {
+                log.info("Asset stats drifted by {} assets; reconciled", rebuilt.total - counters.total);
+            }
+            counters = rebuilt;
+            reconciledAt = LocalDateTime.now();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onAssetChange(AssetChangeEvent event) {
+        record(target -> {
+            if (event.getBefore() != null) {
+                target.apply(event.getBefore(), -1);
+            }
+            if (event.getAfter() != null) {
+                target.apply(event.getAfter(), 1);
+            }
+        });
+    }
+
+    @TransactionalEventListener
+    public void onUserChange(UserChangeEvent event) {
+        // A user with assets cannot be deleted, so a deletion leaves every count as it was.
+        record(event.getType() == UserChangeEvent.Type.DELETED
+                ? target -> target.departmentOfUser.remove(event.getUserId())
+                : target -> target.moveUser(event.getUserId(), event.getDepartmentName()));
+    }
+
+    /** Applies a committed change to the live counters and to every rebuild still counting. */
+    private void record(Consumer<Counters> change) {
+        lock.lock();
+        try {
+            if (counters != null) {
+                change.accept(counters);
+            }
+            backlogs.forEach(backlog -> backlog.add(change));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static <K> void adjust(Map<K, Long> counts, K key, long delta) {
+        counts.compute(key, (k, count) -> {
+            long updated = (count != null ? count : 0) + delta;
+            return updated == 0 ? null : updated;
+        });
+    }
+
+    /** Not thread-safe; guarded by {@code lock}. */
+    private static final class Counters {
+        private long total;
+        private long unassigned;
+        private final Map<AssetStatus, Long> byStatus = new EnumMap<>(AssetStatus.class);
+        private final Map<AssetCategory, Long> byCategory = new EnumMap<>(AssetCategory.class);
+        private final Map<String, Long> byVendor = new HashMap<>();
+        private final Map<String, Long> byDepartment = new HashMap<>();
+        private final Map<Long, Long> byAssignee = new HashMap<>();
+        private final Map<Long, String> departmentOfUser = new HashMap<>();
+        // Only dates from the day they were counted onwards; earlier ones are pruned on read.
+        private final NavigableMap<LocalDate, Long> warrantyExpiries = new TreeMap<>();
+
+        void apply(AssetSummaryDTO asset, long delta) {
+            total += delta;
+            adjust(byStatus, asset.getStatus(), delta);
+            adjust(byCategory, asset.getCategory(), delta);
+            adjust(byVendor, asset.getVendor(), delta);
+            if (asset.getAssignedTo() != null) {
+                adjust(byAssignee, asset.getAssignedTo(), delta);
+                adjust(byDepartment, departmentOf(asset.getAssignedTo()), delta);
+            } else {
+                unassigned += delta;
+            }
+            LocalDate warrantyExpiry = asset.getWarrantyExpiry();
+            if (warrantyExpiry != null && !warrantyExpiry.isBefore(LocalDate.now())) {
+                adjust(warrantyExpiries, warrantyExpiry, delta);
+            }
+        }
+
+        void moveUser(Long userId, String department) {
+            String previous = departmentOf(userId);
+            departmentOfUser.put(userId, department);
+            long assets = byAssignee.getOrDefault(userId, 0L);
+            if (assets != 0 && !previous.equals(department)) {
+                adjust(byDepartment, previous, -assets);
+                adjust(byDepartment, department, assets);
+            }
+        }
+
+        String departmentOf(Long userId) {
+            return departmentOfUser.getOrDefault(userId, UNKNOWN_DEPARTMENT);
+        }
+
+        AssetStatsDTO toDTO(List<Integer> windows, LocalDate today, LocalDateTime reconciledAt) {
+            warrantyExpiries.headMap(today).clear();
+
+            Map<AssetStatus, Long> statuses = new EnumMap<>(AssetStatus.class);
+            for (AssetStatus status : AssetStatus.values()) {
+                statuses.put(status, byStatus.getOrDefault(status, 0L));
+            }
+            Map<AssetCategory, Long> categories = new EnumMap<>(AssetCategory.class);
+            for (AssetCategory category : AssetCategory.values()) {
+                categories.put(category, byCategory.getOrDefault(category, 0L));
+            }
+            Map<Integer, Long> expiring = new TreeMap<>();
+            for (int days : windows) {
+                expiring.put(days, warrantyExpiries.subMap(today, true, today.plusDays(days), true)
+                        .values().stream().mapToLong(Long::longValue).sum());
+            }
+
+            return AssetStatsDTO.builder()
+                    .total(total)
+                    .byStatus(statuses)
+                    .byCategory(categories)
+                    .byVendor(new TreeMap<>(byVendor))
+                    .byDepartment(new TreeMap<>(byDepartment))
+                    .unassigned(unassigned)
+                    .warrantyExpiringWithinDays(expiring)
+                    .reconciledAt(reconciledAt)
+                    .build();
+        }
+    }
+}
@@ -5,11 +5,11 @@ import com.assetmanagement.dto.LoginResponse;
 import com.assetmanagement.model.Admin;
 import com.assetmanagement.repository.AdminRepository;
 import com.assetmanagement.security.JwtUtil;
+import com.assetmanagement.security.LoginThrottle;
+import com.assetmanagement.security.PasswordHashingExecutor;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.AuthenticationException;
 import org.springframework.stereotype.Service;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -17,31 +17,33 @@ public class AuthService {
 
     private final AdminRepository adminRepository;
     private final JwtUtil jwtUtil;
-    private final AuthenticationManager authenticationManager;
-
-    public LoginResponse login(LoginRequest loginRequest) {
-        try {
-            authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            loginRequest.getUsername(),
-                            loginRequest.getPassword()
-                    )
-            );
-
-            Admin admin = adminRepository.findByUsername(loginRequest.getUsername())
-                    .orElseThrow(() -> new RuntimeException("Admin not found"));
-
-            String token = jwtUtil.generateToken(admin.getUsername());
-
-            return LoginResponse.builder()
-                    .token(token)
-                    .username(admin.getUsername())
-                    .email(admin.getEmail())
-                    .fullName(admin.getFullName())
-                    .build();
-
-        } catch (AuthenticationException e) {
-            throw new RuntimeException("Invalid username or password");
-        }
+    private final LoginThrottle loginThrottle;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    /**
+     * Looks the admin up on the calling thread and checks the password on the
+     * login pool; the returned future fails with "Invalid username or password"
+     * if either does not match.
+     */
+    public CompletableFuture<LoginResponse> login(LoginRequest loginRequest, String clientIp) {
+        loginThrottle.acquire(loginRequest.getUsername(), clientIp);
+        Admin admin = adminRepository.findByUsername(loginRequest.getUsername()).orElse(null);
+
+        return passwordHashingExecutor.matches(loginRequest.getPassword(), admin != null ? admin.getPassword() : null)
+                .thenApply(matches -> {
+                    if (!matches) {
+                        throw new RuntimeException("Invalid username or password");
+                    }
+                    loginThrottle.reset(loginRequest.getUsername());
+
+                    String token = jwtUtil.generateToken(admin.getUsername());
+
+                    return LoginResponse.builder()
+                            .token(token)
+                            .username(admin.getUsername())
+                            .email(admin.getEmail())
+                            .fullName(admin.getFullName())
+                            .build();
+                });
     }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.dto.AssetSummaryDTO;
+import com.assetmanagement.model.AssetStatus;
+import com.assetmanagement.repository.AssetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class DatabaseAssetSearchEngine implements AssetSearchEngine {
+    private final AssetRepository assetRepository;
+
+    @Override
+    public Window<AssetSummaryDTO> search(String searchTerm, AssetStatus status, ScrollPosition position, Limit limit) {
+        return assetRepository.searchSummaries(searchTerm, status, position, limit);
+    }
+
+    @Override
+    public long count(String searchTerm, AssetStatus status) {
+        return assetRepository.countSearchMatches(searchTerm, status);
+    }
+}
@@ -4,6 +4,8 @@ import com.assetmanagement.dto.DepartmentDTO;
 import com.assetmanagement.exception.ResourceNotFoundException;
 import com.assetmanagement.model.Department;
 import com.assetmanagement.repository.DepartmentRepository;
+import com.assetmanagement.repository.DepartmentRepository.DepartmentCounts;
+import com.assetmanagement.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,17 +16,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DepartmentService {
     private final DepartmentRepository departmentRepository;
+    private final UserRepository userRepository;
 
     public List<DepartmentDTO> getAllDepartments() {
-        return departmentRepository.findAll().stream()
+        return departmentRepository.findAllWithCounts().stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
     public DepartmentDTO getDepartmentById(Long id) {
-        Department department = departmentRepository.findById(id)
+        return departmentRepository.findWithCountsById(id)
+                .map(this::convertToDTO)
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + id));
-        return convertToDTO(department);
     }
 
     @Transactional
@@ -38,7 +41,10 @@ public class DepartmentService {
                 .build();
 
         Department savedDepartment = departmentRepository.save(department);
-        return convertToDTO(savedDepartment);
+        return DepartmentDTO.builder()
+                .id(savedDepartment.getId())
+                .name(savedDepartment.getName())
+                .build();
     }
 
     @Transactional
@@ -52,8 +58,8 @@ public class DepartmentService {
         }
 
         department.setName(departmentDTO.getName());
-        Department updatedDepartment = departmentRepository.save(department);
-        return convertToDTO(updatedDepartment);
+        departmentRepository.saveAndFlush(department);
+        return getDepartmentById(id);
     }
 
     @Transactional
@@ -61,18 +67,19 @@ public class DepartmentService {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + id));
 
-        if (department.getUsers() != null && !department.getUsers().isEmpty()) {
+        if (userRepository.existsByDepartmentId(id)) {
             throw new IllegalArgumentException("Cannot delete department with assigned users");
         }
 
-        departmentRepository.deleteById(id);
+        departmentRepository.delete(department);
     }
 
-    private DepartmentDTO convertToDTO(Department department) {
+    private DepartmentDTO convertToDTO(DepartmentCounts department) {
         return DepartmentDTO.builder()
                 .id(department.getId())
                 .name(department.getName())
                 .employeeCount(department.getEmployeeCount())
+                .assetCount(department.getAssetCount())
                 .build();
     }
 }
@@ -0,0 +1,171 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.dto.AssetSummaryDTO;
+import com.assetmanagement.event.AssetChangeEvent;
+import com.assetmanagement.event.UserChangeEvent;
+import com.assetmanagement.model.AssetStatus;
+import com.assetmanagement.repository.AssetRepository;
+import com.assetmanagement.repository.AssetRepositoryCustom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serves asset search from an {@link AssetSearchIndex} built at startup and
+ * kept current from committed asset and user changes, so searches never
+ * reach PostgreSQL. Until the initial build finishes, searches are delegated
+ * to the database engine.
+ */
+@Slf4j
+@Primary
+@Service
+@ConditionalOnProperty(name = "asset.search.engine", havingValue = "memory")
+public class InMemoryAssetSearchEngine implements AssetSearchEngine {
+    private final AssetRepository assetRepository;
+    private final DatabaseAssetSearchEngine databaseSearchEngine;
+    private final TransactionTemplate reload;
+    private final AssetSearchIndex index = new AssetSearchIndex();
+    private volatile boolean ready;
+
+    public InMemoryAssetSearchEngine(AssetRepository assetRepository, DatabaseAssetSearchEngine databaseSearchEngine,
+                                     PlatformTransactionManager transactionManager) {
+        this.assetRepository = assetRepository;
+        this.databaseSearchEngine = databaseSearchEngine;
+        this.reload = new TransactionTemplate(transactionManager);
+        reload.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        reload.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildIndex() {
+        long start = System.nanoTime();
+        index.clear();
+        assetRepository.streamSearchDocuments().forEach(index::put);
+        ready = true;
+        log.info("Indexed {} assets for in-memory search in {} ms",
+                index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Collects the transaction's asset changes and applies them once it
+     * commits, reloading every created or updated asset in one query rather
+     * than one transaction and SELECT per event.
+     */
+    @EventListener
+    public void onAssetChange(AssetChangeEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Like a @TransactionalEventListener: changes outside a transaction are not indexed.
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        if (event.getType() == AssetChangeEvent.Type.DELETED) {
+            pending.changed.remove(event.getAssetId());
+            pending.deleted.add(event.getAssetId());
+        } else {
+            pending.deleted.remove(event.getAssetId());
+            pending.changed.add(event.getAssetId());
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onUserChange(UserChangeEvent event) {
+        switch (event.getType()) {
+            case UPDATED -> index.renameAssignee(event.getUserId(), event.getName());
+            case DELETED -> index.removeAssignee(event.getUserId());
+            default -> { }
+        }
+    }
+
+    @Override
+    public Window<AssetSummaryDTO> search(String searchTerm, AssetStatus status, ScrollPosition position, Limit limit) {
+        if (!ready) {
+            return databaseSearchEngine.search(searchTerm, status, position, limit);
+        }
+
+        List<AssetSearchIndex.Hit> hits = hits(searchTerm, status);
+        int from = 0;
+        if (position instanceof KeysetScrollPosition keyset && !keyset.isInitial()) {
+            float relevance = (Float) keyset.getKeys().get(AssetRepositoryCustom.RELEVANCE);
+            String id = (String) keyset.getKeys().get("id");
+            while (from < hits.size() && !isAfter(hits.get(from), relevance, id)) {
+                from++;
+            }
+        }
+
+        int to = Math.min(hits.size(), from + limit.max());
+        List<AssetSearchIndex.Hit> page = hits.subList(from, to);
+        return Window.from(page.stream().map(AssetSearchIndex.Hit::summary).toList(), i -> {
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(AssetRepositoryCustom.RELEVANCE, page.get(i).score());
+            keys.put("id", page.get(i).summary().getId());
+            return ScrollPosition.forward(keys);
+        }, to < hits.size());
+    }
+
+    @Override
+    public long count(String searchTerm, AssetStatus status) {
+        return ready ? hits(searchTerm, status).size() : databaseSearchEngine.count(searchTerm, status);
+    }
+
+    private List<AssetSearchIndex.Hit> hits(String searchTerm, AssetStatus status) {
+        List<AssetSearchIndex.Hit> hits = index.search(searchTerm);
+        return status == null ? hits : hits.stream().filter(hit -> hit.summary().getStatus() == status).toList();
+    }
+
+    private static boolean isAfter(AssetSearchIndex.Hit hit, float relevance, String id) {
+        return hit.score() < relevance || (hit.score() == relevance && hit.summary().getId().compareTo(id) < 0);
+    }
+
+    private final class PendingChanges implements TransactionSynchronization {
+        private final Set<String> changed = new LinkedHashSet<>();
+        private final Set<String> deleted = new LinkedHashSet<>();
+
+        // Ahead of AssetChangeCounter, so a new list ETag never tags stale results.
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void afterCommit() {
+            deleted.forEach(index::remove);
+            if (!changed.isEmpty()) {
+                // The committed transaction's resources are still bound, so read in a new one.
+                reload.executeWithoutResult(status -> assetRepository.findSearchDocuments(changed).forEach(index::put));
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(InMemoryAssetSearchEngine.this);
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.assetmanagement.service;
 
 import com.assetmanagement.dto.UserDTO;
+import com.assetmanagement.event.UserChangeEvent;
 import com.assetmanagement.exception.ResourceNotFoundException;
 import com.assetmanagement.model.Department;
 import com.assetmanagement.model.User;
+import com.assetmanagement.repository.AssetRepository;
 import com.assetmanagement.repository.DepartmentRepository;
 import com.assetmanagement.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -17,6 +20,8 @@ import java.util.stream.Collectors;
 public class UserService {
     private final UserRepository userRepository;
     private final DepartmentRepository departmentRepository;
+    private final AssetRepository assetRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<UserDTO> getAllUsers() {
         return userRepository.findAll().stream()
@@ -38,6 +43,8 @@ public class UserService {
 
         User user = convertToEntity(userDTO);
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangeEvent(UserChangeEvent.Type.CREATED,
+                savedUser.getId(), savedUser.getName(), savedUser.getDepartment().getName()));
         return convertToDTO(savedUser);
     }
 
@@ -59,6 +66,8 @@ public class UserService {
         user.setDepartment(department);
 
         User updatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangeEvent(UserChangeEvent.Type.UPDATED,
+                updatedUser.getId(), updatedUser.getName(), department.getName()));
         return convertToDTO(updatedUser);
     }
 
@@ -67,7 +76,13 @@ public class UserService {
         if (!userRepository.existsById(id)) {
             throw new ResourceNotFoundException("User not found with id: " + id);
         }
+        // Checked here rather than by the client, which may only have loaded some of the assets:
+        // deleting the user would cascade to every asset still assigned to them.
+        if (assetRepository.existsByAssignedUserId(id)) {
+            throw new IllegalArgumentException("Cannot delete user with assigned assets");
+        }
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserChangeEvent(UserChangeEvent.Type.DELETED, id, null, null));
     }
 
     private UserDTO convertToDTO(User user) {
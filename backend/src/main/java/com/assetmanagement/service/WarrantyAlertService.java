@@ -0,0 +1,172 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.dto.AssetPageRequest;
+import com.assetmanagement.dto.AssetSummaryDTO;
+import com.assetmanagement.dto.CursorPage;
+import com.assetmanagement.dto.WarrantyAlertDTO;
+import com.assetmanagement.event.AssetChangeEvent;
+import com.assetmanagement.model.ScanCursor;
+import com.assetmanagement.model.WarrantyAlert;
+import com.assetmanagement.repository.AssetRepository;
+import com.assetmanagement.repository.AssetRepository.WarrantyPosition;
+import com.assetmanagement.repository.ScanCursorRepository;
+import com.assetmanagement.repository.WarrantyAlertRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Records an alert for every asset whose warranty expires within the next
+ * {@code asset.warranty-alerts.window-days} days.
+ *
+ * <p>The scheduled scan walks assets in {@code (warranty_expiry, asset_id)}
+ * order from a persisted {@link ScanCursor}, so each run only reads the assets
+ * that have entered the window since the last one. Assets created or edited
+ * with a warranty date the scan has already passed are picked up from their
+ * change events instead.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WarrantyAlertService {
+    static final String CURSOR_NAME = "warranty-expiry";
+
+    private final AssetRepository assetRepository;
+    private final WarrantyAlertRepository warrantyAlertRepository;
+    private final ScanCursorRepository scanCursorRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${asset.warranty-alerts.window-days:30}")
+    private int windowDays;
+
+    @Value("${asset.warranty-alerts.chunk-size:500}")
+    private int chunkSize;
+
+    @Transactional(readOnly = true)
+    public CursorPage<WarrantyAlertDTO> getAlerts(String cursor, int limit) {
+        if (limit < 1 || limit > AssetPageRequest.MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + AssetPageRequest.MAX_LIMIT);
+        }
+        long afterId = parseCursor(cursor);
+        List<WarrantyAlertDTO> alerts = warrantyAlertRepository.findCurrentAlertsAfter(afterId, Limit.of(limit + 1));
+        boolean hasNext = alerts.size() > limit;
+        if (hasNext) {
+            alerts = alerts.subList(0, limit);
+        }
+        return CursorPage.<WarrantyAlertDTO>builder()
+                .items(alerts)
+                .nextCursor(hasNext ? String.valueOf(alerts.get(alerts.size() - 1).getId()) : null)
+                .build();
+    }
+
+    /**
+     * Advances the cursor to the end of the window, one committed chunk at a time.
+     *
+     * @return the number of assets examined
+     */
+    @Scheduled(fixedDelayString = "${asset.warranty-alerts.scan-interval:PT1H}",
+            initialDelayString = "${asset.warranty-alerts.scan-interval:PT1H}")
+    public int scan() {
+        LocalDate until = LocalDate.now().plusDays(windowDays);
+        int examined = 0;
+        int chunk;
+        do {
+            chunk = Objects.requireNonNull(transactionTemplate.execute(status -> scanChunk(until)));
+            examined += chunk;
+        } while (chunk == chunkSize);
+        if (examined > 0) {
+            log.info("Warranty scan examined {} assets expiring up to {}", examined, until);
+        }
+        return examined;
+    }
+
+    // Changes that keep the warranty date are filtered out before a transaction is opened;
+    // a bulk transition publishes one such event per asset. Deleting assets removes
+    // their alerts in the same transaction.
+    @TransactionalEventListener(condition = "#event.after != null && (#event.before == null "
+            + "|| #event.after.warrantyExpiry != #event.before.warrantyExpiry)")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onAssetChange(AssetChangeEvent event) {
+        AssetSummaryDTO after = event.getAfter();
+        LocalDate warrantyExpiry = after.getWarrantyExpiry();
+        if (warrantyExpiry == null || !isWithinWindow(warrantyExpiry)) {
+            return;
+        }
+        if (!warrantyAlertRepository.existsByAssetIdAndWarrantyExpiry(after.getId(), warrantyExpiry)) {
+            try {
+                warrantyAlertRepository.saveAndFlush(newAlert(after.getId(), warrantyExpiry));
+            } catch (DataIntegrityViolationException e) {
+                // The scan recorded it first.
+            }
+        }
+    }
+
+    private int scanChunk(LocalDate until) {
+        LocalDate today = LocalDate.now();
+        ScanCursor cursor = scanCursorRepository.findById(CURSOR_NAME)
+                .orElseGet(() -> ScanCursor.builder().name(CURSOR_NAME).build());
+        if (cursor.getLastDate() == null || cursor.getLastDate().isBefore(today)) {
+            // Anything before today has expired already; start the window afresh.
+            cursor.setLastDate(today);
+            cursor.setLastAssetId("");
+        }
+
+        List<WarrantyPosition> positions = assetRepository.findWarrantiesAfter(
+                cursor.getLastDate(), cursor.getLastAssetId(), until, Limit.of(chunkSize));
+        if (!positions.isEmpty()) {
+            Set<String> alerted = warrantyAlertRepository
+                    .findByAssetIdIn(positions.stream().map(WarrantyPosition::getId).toList()).stream()
+                    .map(alert -> alert.getAssetId() + '|' + alert.getWarrantyExpiry())
+                    .collect(Collectors.toSet());
+            warrantyAlertRepository.saveAll(positions.stream()
+                    .filter(position -> !alerted.contains(position.getId() + '|' + position.getWarrantyExpiry()))
+                    .map(position -> newAlert(position.getId(), position.getWarrantyExpiry()))
+                    .toList());
+
+            WarrantyPosition last = positions.get(positions.size() - 1);
+            cursor.setLastDate(last.getWarrantyExpiry());
+            cursor.setLastAssetId(last.getId());
+        }
+        cursor.setUpdatedAt(LocalDateTime.now());
+        scanCursorRepository.save(cursor);
+        return positions.size();
+    }
+
+    private boolean isWithinWindow(LocalDate warrantyExpiry) {
+        LocalDate today = LocalDate.now();
+        return !warrantyExpiry.isBefore(today) && !warrantyExpiry.isAfter(today.plusDays(windowDays));
+    }
+
+    private static WarrantyAlert newAlert(String assetId, LocalDate warrantyExpiry) {
+        return WarrantyAlert.builder()
+                .assetId(assetId)
+                .warrantyExpiry(warrantyExpiry)
+                .detectedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static long parseCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
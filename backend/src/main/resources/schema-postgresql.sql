@@ -0,0 +1,23 @@
+-- PostgreSQL-only schema additions that Hibernate's ddl-auto cannot express.
+-- Runs after Hibernate has created/updated the tables
+-- (spring.jpa.defer-datasource-initialization=true) and must stay idempotent.
+
+-- Trigram GIN indexes backing the substring search in AssetRepositoryImpl.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_assets_name_trgm ON assets USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_id_trgm ON assets USING gin (lower(asset_id) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_vendor_trgm ON assets USING gin (lower(vendor) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_specs_trgm ON assets USING gin (lower(specs) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_name_trgm ON users USING gin (lower(name) gin_trgm_ops);
+
+-- asset_history ids used to come from an identity column; move the sequence
+-- past any existing ids without ever moving it backwards.
+SELECT setval('asset_history_seq', GREATEST(
+        (SELECT COALESCE(MAX(id), 1) FROM asset_history),
+        (SELECT last_value FROM asset_history_seq)));
+
+-- assets.version was added to existing rows as NULL; Hibernate needs a number.
+UPDATE assets SET version = 0 WHERE version IS NULL;
+
+-- Assets that predate the change feed sort before every recorded change.
+UPDATE assets SET change_seq = 0, updated_at = now() WHERE change_seq IS NULL;
@@ -0,0 +1,82 @@
+package com.assetmanagement;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Runs one JMH benchmark class with the GC profiler, so every result carries
+ * its allocation per operation ({@code gc.alloc.rate.norm}), and writes the
+ * results to {@code target/jmh/<class>.json}. When a baseline for the class is
+ * committed under {@code benchmarks/baseline}, each result is printed next to
+ * it. To accept new numbers as the baseline, copy the results file over it.
+ */
+public final class JmhBenchmarks {
+    private static final Path RESULTS = Path.of("target", "jmh");
+    private static final Path BASELINE = Path.of("benchmarks", "baseline");
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private JmhBenchmarks() {
+    }
+
+    public static void run(Class<?> benchmark) throws Exception {
+        Files.createDirectories(RESULTS);
+        Path results = RESULTS.resolve(benchmark.getSimpleName() + ".json");
+        new Runner(new OptionsBuilder()
+                .include(Pattern.quote(benchmark.getName()) + "\\.")
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(results.toString())
+                .build()).run();
+
+        Path baseline = BASELINE.resolve(results.getFileName());
+        if (Files.exists(baseline)) {
+            compare(read(baseline), read(results));
+        } else {
+            System.out.printf("No baseline at %s; copy %s there to record one%n", baseline, results);
+        }
+    }
+
+    private static void compare(Map<String, JsonNode> baseline, Map<String, JsonNode> current) {
+        System.out.printf("%-70s %14s %9s %14s %9s%n", "Benchmark", "score", "vs base", "B/op", "vs base");
+        current.forEach((key, result) -> {
+            JsonNode base = baseline.get(key);
+            JsonNode score = result.path("primaryMetric");
+            JsonNode allocation = result.path("secondaryMetrics").path(ALLOCATION);
+            System.out.printf("%-70s %10.3f %-3s %9s %14.1f %9s%n", key,
+                    score.path("score").asDouble(), score.path("scoreUnit").asText(),
+                    change(base == null ? null : base.path("primaryMetric"), score),
+                    allocation.path("score").asDouble(),
+                    change(base == null ? null : base.path("secondaryMetrics").path(ALLOCATION), allocation));
+        });
+    }
+
+    private static String change(JsonNode base, JsonNode current) {
+        if (base == null || base.isMissingNode() || base.path("score").asDouble() == 0) {
+            return "new";
+        }
+        return String.format("%+.1f%%", 100 * (current.path("score").asDouble() / base.path("score").asDouble() - 1));
+    }
+
+    // Keyed by benchmark method and parameters, e.g. "AssetMappingBenchmark.toDto historySize=100".
+    private static Map<String, JsonNode> read(Path file) throws Exception {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file.toFile())) {
+            String benchmark = result.path("benchmark").asText();
+            StringBuilder key = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.',
+                    benchmark.lastIndexOf('.') - 1) + 1));
+            result.path("params").fields().forEachRemaining(param ->
+                    key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,58 @@
+package com.assetmanagement.config;
+
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyntheticDatasetTests {
+
+    @Test
+    void rowsDependOnTheSeedAloneNotOnHowTheWorkIsSplit() throws IOException {
+        SyntheticDataset dataset = dataset(42, 0.6);
+
+        StringBuilder whole = new StringBuilder();
+        dataset.writeAssets(0, 1_000, whole);
+        dataset.writeHistory(0, 1_000, 1, whole);
+        StringBuilder split = new StringBuilder();
+        dataset.writeAssets(0, 400, split);
+        dataset.writeAssets(400, 1_000, split);
+        dataset.writeHistory(0, 400, 1, split);
+        long nextId = 1 + LongStream.range(0, 400).map(dataset::historyCount).sum();
+        dataset.writeHistory(400, 1_000, nextId, split);
+
+        assertThat(split.toString()).isEqualTo(whole.toString());
+        StringBuilder reseeded = new StringBuilder();
+        dataset(43, 0.6).writeAssets(0, 1_000, reseeded);
+        assertThat(whole.toString()).doesNotStartWith(reseeded.toString());
+    }
+
+    @Test
+    void skewKeepsTheAverageHistoryButConcentratesIt() {
+        SyntheticDataset even = dataset(42, 0);
+        SyntheticDataset skewed = dataset(42, 0.6);
+
+        assertThat(LongStream.range(0, 100_000).map(even::historyCount).distinct().toArray()).containsExactly(20);
+        assertThat(LongStream.range(0, 100_000).map(skewed::historyCount).average().orElseThrow())
+                .isBetween(18.0, 22.0);
+        assertThat(LongStream.range(0, 100_000).map(skewed::historyCount).max().orElseThrow())
+                .isGreaterThan(200);
+    }
+
+    private static SyntheticDataset dataset(long seed, double skew) {
+        return SyntheticDataset.builder()
+                .seed(seed)
+                .departments(10)
+                .users(1_000)
+                .assets(1_000)
+                .historyPerAsset(20)
+                .skew(skew)
+                .asOf(LocalDate.of(2025, 1, 1))
+                .idPrefix("GEN-")
+                .departmentIdBase(0)
+                .userIdBase(0)
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.repository.AdminRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(username = AdminControllerTests.USERNAME)
+class AdminControllerTests {
+    static final String USERNAME = "admin_username";
+    private static final String PASSWORD = "admin_password";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AdminRepository adminRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void restorePassword() {
+        adminRepository.findByUsername(USERNAME).ifPresent(admin -> {
+            admin.setPassword(passwordEncoder.encode(PASSWORD));
+            adminRepository.save(admin);
+        });
+    }
+
+    @Test
+    void changesThePasswordOffTheRequestThread() throws Exception {
+        updateProfile("{\"currentPassword\":\"" + PASSWORD + "\",\"password\":\"changed_password\"}")
+                .andExpect(status().isOk());
+
+        updateProfile("{\"currentPassword\":\"" + PASSWORD + "\"}")
+                .andExpect(status().isBadRequest());
+        updateProfile("{\"currentPassword\":\"changed_password\"}")
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void rejectsAWrongCurrentPassword() throws Exception {
+        updateProfile("{\"currentPassword\":\"wrong_password\",\"password\":\"changed_password\"}")
+                .andExpect(status().isBadRequest());
+    }
+
+    /** The password check runs on the login pool, so the update completes asynchronously. */
+    private ResultActions updateProfile(String body) throws Exception {
+        MvcResult result = mockMvc.perform(put("/api/admin/profile")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
@@ -0,0 +1,213 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.model.*;
+import com.assetmanagement.repository.AssetHistoryRepository;
+import com.assetmanagement.repository.AssetRepository;
+import com.assetmanagement.repository.DepartmentRepository;
+import com.assetmanagement.repository.UserRepository;
+import com.assetmanagement.service.AssetHistoryWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AssetControllerBatchTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private AssetHistoryRepository assetHistoryRepository;
+
+    @Autowired
+    private AssetHistoryWriter assetHistoryWriter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Department department;
+    private User user;
+
+    @BeforeAll
+    void seed() {
+        department = departmentRepository.save(Department.builder().name("Batch Department").build());
+        user = userRepository.save(User.builder()
+                .name("Batch User")
+                .email("batch-user@example.com")
+                .department(department)
+                .build());
+    }
+
+    @AfterEach
+    void deleteAssets() {
+        assetRepository.deleteAll(assetRepository.findAll().stream()
+                .filter(asset -> asset.getId().startsWith("BATCH-"))
+                .toList());
+    }
+
+    @AfterAll
+    void cleanUp() {
+        userRepository.delete(user);
+        departmentRepository.delete(department);
+    }
+
+    @Test
+    void createReportsEachInvalidItemAndInsertsTheRest() throws Exception {
+        assetRepository.save(Asset.builder()
+                .id("BATCH-EXISTING")
+                .name("Existing")
+                .category(AssetCategory.LAPTOP)
+                .status(AssetStatus.IN_STORAGE)
+                .purchaseDate(LocalDate.of(2024, 1, 1))
+                .vendor("Vendor")
+                .build());
+
+        List<Map<String, Object>> batch = List.of(
+                asset("BATCH-1", user.getId()),
+                asset("BATCH-2", null, "name", ""),
+                asset("BATCH-1", null),
+                asset("BATCH-3", -1L),
+                asset("BATCH-EXISTING", null),
+                asset("BATCH-4", null));
+
+        mockMvc.perform(post("/api/assets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(4))
+                .andExpect(jsonPath("$.items[*].status").value(contains(201, 400, 400, 404, 400, 201)))
+                .andExpect(jsonPath("$.items[1].error").value("name: Name is required"))
+                .andExpect(jsonPath("$.items[3].error").value("User not found"));
+
+        assertThat(assetRepository.findById("BATCH-1")).hasValueSatisfying(asset ->
+                assertThat(asset.getAssignedUser().getId()).isEqualTo(user.getId()));
+        assetHistoryWriter.flush();
+        assertThat(assetHistoryRepository.findByAssetIdOrderByDateDesc("BATCH-1", Pageable.unpaged()))
+                .extracting(AssetHistory::getNotes).containsExactly("Asset created");
+    }
+
+    @Test
+    void columnLimitsAreReportedPerItemInsteadOfFailingTheChunk() throws Exception {
+        List<Map<String, Object>> batch = List.of(
+                asset("BATCH-1", null),
+                asset("BATCH-2", null, "name", "x".repeat(256)),
+                asset("BATCH-3", null, "vendor", "v".repeat(300)),
+                asset("BATCH-4", null));
+
+        mockMvc.perform(post("/api/assets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.items[*].status").value(contains(201, 400, 400, 201)))
+                .andExpect(jsonPath("$.items[1].error").value("name: Name must be at most 255 characters"))
+                .andExpect(jsonPath("$.items[2].error").value("vendor: Vendor must be at most 255 characters"));
+
+        assertThat(assetRepository.findExistingIds(List.of("BATCH-1", "BATCH-2", "BATCH-3", "BATCH-4")))
+                .containsExactlyInAnyOrder("BATCH-1", "BATCH-4");
+    }
+
+    @Test
+    void createWritesRowsInJdbcBatches() throws Exception {
+        List<Map<String, Object>> batch = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            batch.add(asset("BATCH-" + i, user.getId()));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(post("/api/assets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(200));
+
+        // 400 rows: one user lookup, one id check, a few sequence calls and a handful of batches.
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(400);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(30);
+    }
+
+    @Test
+    void updateAppliesKnownItemsAndRecordsStatusChanges() throws Exception {
+        mockMvc.perform(post("/api/assets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                asset("BATCH-A", null), asset("BATCH-B", null)))))
+                .andExpect(jsonPath("$.succeeded").value(2));
+
+        mockMvc.perform(put("/api/assets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                asset("BATCH-A", null, "status", AssetStatus.IN_REPAIR),
+                                asset("BATCH-B", user.getId(), "name", "Renamed"),
+                                asset("BATCH-MISSING", null)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].status").value(contains(200, 200, 404)));
+
+        assertThat(assetRepository.findById("BATCH-B")).hasValueSatisfying(asset ->
+                assertThat(asset.getName()).isEqualTo("Renamed"));
+        assetHistoryWriter.flush();
+        assertThat(assetHistoryRepository.findByAssetIdOrderByDateDesc("BATCH-A", Pageable.unpaged()))
+                .extracting(AssetHistory::getNotes)
+                .containsExactlyInAnyOrder("Asset created", "Status changed from IN_STORAGE to IN_REPAIR");
+        assertThat(assetHistoryRepository.findByAssetIdOrderByDateDesc("BATCH-B", Pageable.unpaged()))
+                .extracting(AssetHistory::getNotes)
+                .containsExactlyInAnyOrder("Asset created", "Reassignment");
+    }
+
+    private static Map<String, Object> asset(String id, Long assignedTo, Object... overrides) {
+        Map<String, Object> asset = new HashMap<>();
+        asset.put("id", id);
+        asset.put("name", "Batch Laptop " + id);
+        asset.put("category", AssetCategory.LAPTOP);
+        asset.put("status", AssetStatus.IN_STORAGE);
+        asset.put("purchaseDate", "2024-01-01");
+        asset.put("vendor", "Batch Vendor");
+        asset.put("assignedTo", assignedTo);
+        for (int i = 0; i < overrides.length; i += 2) {
+            asset.put((String) overrides[i], overrides[i + 1]);
+        }
+        return asset;
+    }
+}
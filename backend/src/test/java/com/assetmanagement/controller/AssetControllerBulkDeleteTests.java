@@ -0,0 +1,106 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.model.*;
+import com.assetmanagement.repository.AssetDeletionRepository;
+import com.assetmanagement.repository.AssetHistoryRepository;
+import com.assetmanagement.repository.AssetRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class AssetControllerBulkDeleteTests {
+    private static final List<String> IDS = List.of("PURGE-1", "PURGE-2", "PURGE-3");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private AssetHistoryRepository assetHistoryRepository;
+
+    @Autowired
+    private AssetDeletionRepository assetDeletionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void createAssets() {
+        for (String id : IDS) {
+            Asset asset = assetRepository.save(Asset.builder()
+                    .id(id)
+                    .name("Purged Monitor")
+                    .category(AssetCategory.MONITOR)
+                    .status(AssetStatus.DECOMMISSIONED)
+                    .purchaseDate(LocalDate.of(2020, 1, 1))
+                    .vendor("Purge Vendor")
+                    .build());
+            assetHistoryRepository.saveAll(IntStream.range(0, 20)
+                    .mapToObj(i -> AssetHistory.builder()
+                            .asset(asset)
+                            .date(LocalDate.of(2020, 1, 1).plusDays(i))
+                            .status(AssetStatus.DECOMMISSIONED)
+                            .notes("Entry " + i)
+                            .build())
+                    .toList());
+        }
+    }
+
+    @AfterEach
+    void deleteAssets() {
+        assetRepository.deleteAllById(assetRepository.findExistingIds(IDS));
+    }
+
+    @Test
+    void deletesAssetsWithTheirHistoryWithoutLoadingIt() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(delete("/api/assets").param("ids", "PURGE-1", "PURGE-2", "PURGE-MISSING"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2));
+        mockMvc.perform(delete("/api/assets/{id}", "PURGE-3"))
+                .andExpect(status().isNoContent());
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(assetRepository.findExistingIds(IDS)).isEmpty();
+        for (String id : IDS) {
+            assertThat(assetHistoryRepository.findByAssetIdOrderByDateDesc(id, Pageable.unpaged())).isEmpty();
+        }
+        assertThat(assetDeletionRepository.findAll())
+                .extracting(AssetDeletion::getAssetId)
+                .contains("PURGE-1", "PURGE-2", "PURGE-3")
+                .doesNotContain("PURGE-MISSING");
+    }
+
+    @Test
+    void deletingAMissingAssetIsNotFound() throws Exception {
+        mockMvc.perform(delete("/api/assets/{id}", "PURGE-MISSING"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/assets").param("ids", "PURGE-MISSING"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(0));
+    }
+}
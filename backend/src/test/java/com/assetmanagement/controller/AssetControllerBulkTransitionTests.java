@@ -0,0 +1,188 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.model.*;
+import com.assetmanagement.repository.AssetHistoryRepository;
+import com.assetmanagement.repository.AssetRepository;
+import com.assetmanagement.repository.DepartmentRepository;
+import com.assetmanagement.repository.UserRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AssetControllerBulkTransitionTests {
+    private static final List<String> IDS = List.of("BULK-1", "BULK-2", "BULK-3", "BULK-4");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private AssetHistoryRepository assetHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Department department;
+    private User user;
+
+    @BeforeAll
+    void seed() {
+        department = departmentRepository.save(Department.builder().name("Bulk Department").build());
+        user = userRepository.save(User.builder()
+                .name("Bulk User")
+                .email("bulk@example.com")
+                .department(department)
+                .build());
+    }
+
+    @BeforeEach
+    void createAssets() {
+        assetRepository.saveAll(List.of(
+                asset("BULK-1", AssetStatus.IN_STORAGE, null, "Bulk Vendor"),
+                asset("BULK-2", AssetStatus.IN_STORAGE, null, "Bulk Vendor"),
+                asset("BULK-3", AssetStatus.IN_USE, user, "Bulk Vendor"),
+                asset("BULK-4", AssetStatus.IN_STORAGE, null, "Other Vendor")));
+    }
+
+    @AfterEach
+    void deleteAssets() {
+        assetRepository.deleteAllById(assetRepository.findExistingIds(IDS));
+    }
+
+    @AfterAll
+    void cleanUp() {
+        userRepository.delete(user);
+        departmentRepository.delete(department);
+    }
+
+    @Test
+    void filterMovesMatchingAssetsAndRecordsHistory() throws Exception {
+        mockMvc.perform(post("/api/assets/bulk-transition")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filter\": {\"status\": \"In Storage\", \"vendor\": \"Bulk Vendor\"}, "
+                                + "\"status\": \"In Use\", \"assignedTo\": " + user.getId() + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matched").value(2))
+                .andExpect(jsonPath("$.updated").value(2));
+
+        mockMvc.perform(get("/api/assets/{id}", "BULK-2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.status").value("In Use"))
+                .andExpect(jsonPath("$.assignedTo").value(user.getId()));
+
+        assertThat(assetHistoryRepository.findByAssetIdOrderByDateDesc("BULK-1", Pageable.unpaged()))
+                .singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.getStatus()).isEqualTo(AssetStatus.IN_USE);
+                    assertThat(entry.getUser().getId()).isEqualTo(user.getId());
+                    assertThat(entry.getNotes()).isEqualTo("Status changed from IN_STORAGE to IN_USE. Reassignment");
+                });
+        assertThat(assetRepository.findVersionById("BULK-3")).contains(0L);
+        assertThat(assetRepository.findVersionById("BULK-4")).contains(0L);
+    }
+
+    @Test
+    void idsSkipUnknownAndUnchangedAssets() throws Exception {
+        mockMvc.perform(post("/api/assets/bulk-transition")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [\"BULK-1\", \"BULK-3\", \"BULK-MISSING\"], \"status\": \"In Use\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matched").value(2))
+                .andExpect(jsonPath("$.updated").value(1));
+
+        assertThat(assetRepository.findVersionById("BULK-1")).contains(1L);
+        assertThat(assetRepository.findVersionById("BULK-3")).contains(0L);
+        assertThat(assetHistoryRepository.findByAssetIdOrderByDateDesc("BULK-3", Pageable.unpaged())).isEmpty();
+        assertThat(assetHistoryRepository.findByAssetIdOrderByDateDesc("BULK-1", Pageable.unpaged()))
+                .singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.getUser()).isNull();
+                    assertThat(entry.getNotes()).isEqualTo("Status changed from IN_STORAGE to IN_USE");
+                });
+    }
+
+    @Test
+    void leavesUnrelatedSecondLevelCacheEntriesInPlace() throws Exception {
+        Cache cache = entityManagerFactory.getCache();
+        userRepository.findById(user.getId());
+        assertThat(cache.contains(User.class, user.getId())).isTrue();
+
+        mockMvc.perform(post("/api/assets/bulk-transition")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [\"BULK-1\", \"BULK-2\"], \"status\": \"In Repair\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2));
+
+        assertThat(cache.contains(User.class, user.getId())).isTrue();
+    }
+
+    @Test
+    void rejectsAmbiguousOrIncompleteRequests() throws Exception {
+        mockMvc.perform(post("/api/assets/bulk-transition")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [\"BULK-1\"], \"filter\": {\"vendor\": \"Bulk Vendor\"}, \"status\": \"In Use\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/assets/bulk-transition")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filter\": {}, \"status\": \"In Use\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/assets/bulk-transition")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [\"BULK-1\"]}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/assets/bulk-transition")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [\"BULK-1\"], \"assignedTo\": 999999}"))
+                .andExpect(status().isNotFound());
+
+        assertThat(assetRepository.findVersionById("BULK-1")).contains(0L);
+    }
+
+    private static Asset asset(String id, AssetStatus status, User assignee, String vendor) {
+        return Asset.builder()
+                .id(id)
+                .name("Bulk Laptop")
+                .category(AssetCategory.LAPTOP)
+                .status(status)
+                .purchaseDate(LocalDate.of(2024, 1, 1))
+                .assignedUser(assignee)
+                .vendor(vendor)
+                .build();
+    }
+}
@@ -0,0 +1,190 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.model.Asset;
+import com.assetmanagement.model.AssetCategory;
+import com.assetmanagement.model.AssetStatus;
+import com.assetmanagement.model.Department;
+import com.assetmanagement.model.User;
+import com.assetmanagement.repository.AssetRepository;
+import com.assetmanagement.repository.DepartmentRepository;
+import com.assetmanagement.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class AssetControllerChangeFeedTests {
+    private static final List<String> IDS = List.of("FEED-1", "FEED-2", "FEED-3", "FEED-4");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        assetRepository.deleteAllById(assetRepository.findExistingIds(IDS));
+        userRepository.findByEmail("feed-user@example.com").ifPresent(userRepository::delete);
+        departmentRepository.findByName("Feed Department").ifPresent(departmentRepository::delete);
+    }
+
+    @Test
+    void returnsOnlyChangesSinceTheTokenWithTombstones() throws Exception {
+        String token = catchUp();
+
+        mockMvc.perform(post("/api/assets").contentType(MediaType.APPLICATION_JSON)
+                .content(assetJson("FEED-1", "Feed Laptop", null))).andExpect(status().isCreated());
+        mockMvc.perform(post("/api/assets").contentType(MediaType.APPLICATION_JSON)
+                .content(assetJson("FEED-2", "Feed Monitor", null))).andExpect(status().isCreated());
+        mockMvc.perform(put("/api/assets/{id}", "FEED-1").contentType(MediaType.APPLICATION_JSON)
+                .content(assetJson("FEED-1", "Renamed Feed Laptop", null))).andExpect(status().isOk());
+        mockMvc.perform(delete("/api/assets/{id}", "FEED-2")).andExpect(status().isNoContent());
+
+        JsonNode page = changes(token, 50);
+        assertThat(page.get("hasMore").asBoolean()).isFalse();
+        assertThat(page.get("changes")).hasSize(2);
+        JsonNode updated = page.get("changes").get(0);
+        assertThat(updated.get("id").asText()).isEqualTo("FEED-1");
+        assertThat(updated.get("deleted").asBoolean()).isFalse();
+        assertThat(updated.get("name").asText()).isEqualTo("Renamed Feed Laptop");
+        JsonNode tombstone = page.get("changes").get(1);
+        assertThat(tombstone.get("id").asText()).isEqualTo("FEED-2");
+        assertThat(tombstone.get("deleted").asBoolean()).isTrue();
+
+        JsonNode empty = changes(page.get("token").asText(), 50);
+        assertThat(empty.get("changes")).isEmpty();
+        assertThat(empty.get("token").asText()).isEqualTo(page.get("token").asText());
+    }
+
+    @Test
+    void pagesThroughOneTransaction() throws Exception {
+        Department department = departmentRepository.save(Department.builder().name("Feed Department").build());
+        User user = userRepository.save(User.builder()
+                .name("Feed User").email("feed-user@example.com").department(department).build());
+        String token = catchUp();
+
+        String batch = "[" + assetJson("FEED-1", "Feed Laptop", user.getId()) + ","
+                + assetJson("FEED-2", "Feed Monitor", user.getId()) + ","
+                + assetJson("FEED-3", "Feed Phone", null) + "]";
+        mockMvc.perform(post("/api/assets/batch").contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().is2xxSuccessful());
+
+        List<String> seen = new ArrayList<>();
+        JsonNode page;
+        do {
+            page = changes(token, 1);
+            page.get("changes").forEach(change -> seen.add(change.get("id").asText()));
+            token = page.get("token").asText();
+        } while (page.get("hasMore").asBoolean());
+        assertThat(seen).containsExactly("FEED-1", "FEED-2", "FEED-3");
+    }
+
+    @Test
+    void waitsForEarlierTransactionsToCommit() throws Exception {
+        String token = catchUp();
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // FEED-3's transaction takes its sequence first but commits last.
+        CompletableFuture<Void> slowWriter = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(tx -> {
+            assetRepository.saveAndFlush(asset("FEED-3"));
+            written.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+        mockMvc.perform(post("/api/assets").contentType(MediaType.APPLICATION_JSON)
+                .content(assetJson("FEED-4", "Feed Tablet", null))).andExpect(status().isCreated());
+
+        JsonNode held = changes(token, 50);
+        assertThat(held.get("changes")).isEmpty();
+
+        release.countDown();
+        slowWriter.get(10, TimeUnit.SECONDS);
+        List<String> ids = new ArrayList<>();
+        changes(held.get("token").asText(), 50).get("changes").forEach(change -> ids.add(change.get("id").asText()));
+        assertThat(ids).containsExactly("FEED-3", "FEED-4");
+    }
+
+    private String catchUp() throws Exception {
+        String token = null;
+        JsonNode page;
+        do {
+            page = changes(token, 500);
+            token = page.get("token").asText();
+        } while (page.get("hasMore").asBoolean());
+        return token;
+    }
+
+    private JsonNode changes(String since, int limit) throws Exception {
+        var request = get("/api/assets/changes").param("limit", String.valueOf(limit));
+        if (since != null) {
+            request.param("since", since);
+        }
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static Asset asset(String id) {
+        return Asset.builder()
+                .id(id)
+                .name("Feed Asset " + id)
+                .category(AssetCategory.LAPTOP)
+                .status(AssetStatus.IN_STORAGE)
+                .purchaseDate(LocalDate.of(2024, 1, 1))
+                .vendor("Feed Vendor")
+                .build();
+    }
+
+    private String assetJson(String id, String name, Long assignedTo) throws Exception {
+        Map<String, Object> asset = new HashMap<>();
+        asset.put("id", id);
+        asset.put("name", name);
+        asset.put("category", AssetCategory.LAPTOP);
+        asset.put("status", assignedTo != null ? AssetStatus.IN_USE : AssetStatus.IN_STORAGE);
+        asset.put("purchaseDate", LocalDate.of(2024, 1, 1));
+        asset.put("vendor", "Feed Vendor");
+        asset.put("assignedTo", assignedTo);
+        return objectMapper.writeValueAsString(asset);
+    }
+}
@@ -0,0 +1,156 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.model.AssetCategory;
+import com.assetmanagement.model.AssetStatus;
+import com.assetmanagement.repository.AssetRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class AssetControllerConditionalRequestTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc.perform(post("/api/assets").contentType(MediaType.APPLICATION_JSON)
+                        .content(assetJson("Conditional Laptop")))
+                .andExpect(status().isCreated());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        assetRepository.deleteAllById(assetRepository.findExistingIds(List.of("COND-1")));
+    }
+
+    @Test
+    void unchangedAssetIsRevalidatedWithOneStatement() throws Exception {
+        String etag = mockMvc.perform(get("/api/assets/{id}", "COND-1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/assets/{id}", "COND-1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void browsersOnTheAllowedOriginCanReadTheETag() throws Exception {
+        mockMvc.perform(get("/api/assets/{id}", "COND-1").header(HttpHeaders.ORIGIN, "http://localhost:5173"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS,
+                        containsString(HttpHeaders.ETAG)));
+    }
+
+    @Test
+    void updateHonorsIfMatch() throws Exception {
+        mockMvc.perform(put("/api/assets/{id}", "COND-1").contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .content(assetJson("Renamed Laptop")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.version").value(1));
+
+        // A client still holding version 0 must not overwrite the rename.
+        mockMvc.perform(put("/api/assets/{id}", "COND-1").contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .content(assetJson("Stale Laptop")))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/assets/{id}", "COND-1").header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Renamed Laptop"));
+    }
+
+    @Test
+    void updateWithoutIfMatchChecksTheBodyVersion() throws Exception {
+        mockMvc.perform(put("/api/assets/{id}", "COND-1").contentType(MediaType.APPLICATION_JSON)
+                        .content(assetJson("Renamed Laptop", 0L)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1));
+
+        // A second editor who loaded version 0 gets 412 instead of overwriting the rename.
+        mockMvc.perform(put("/api/assets/{id}", "COND-1").contentType(MediaType.APPLICATION_JSON)
+                        .content(assetJson("Stale Laptop", 0L)))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/assets/{id}", "COND-1"))
+                .andExpect(jsonPath("$.name").value("Renamed Laptop"));
+    }
+
+    @Test
+    void listIsRevalidatedUntilAnAssetChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/assets"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/assets").param("status", "IN_USE").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        mockMvc.perform(put("/api/assets/{id}", "COND-1").contentType(MediaType.APPLICATION_JSON)
+                        .content(assetJson("Renamed Laptop")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/assets").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    private String assetJson(String name) throws Exception {
+        return assetJson(name, null);
+    }
+
+    private String assetJson(String name, Long version) throws Exception {
+        Map<String, Object> asset = new HashMap<>();
+        asset.put("id", "COND-1");
+        asset.put("name", name);
+        asset.put("category", AssetCategory.LAPTOP);
+        asset.put("status", AssetStatus.IN_USE);
+        asset.put("purchaseDate", LocalDate.of(2024, 1, 1));
+        asset.put("vendor", "Conditional Vendor");
+        asset.put("version", version);
+        return objectMapper.writeValueAsString(asset);
+    }
+}
@@ -0,0 +1,130 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.model.AssetCategory;
+import com.assetmanagement.model.AssetStatus;
+import com.assetmanagement.repository.AssetRepository;
+import com.assetmanagement.service.AssetEventBroadcaster;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class AssetControllerEventStreamTests {
+    private static final List<String> IDS = List.of("SSE-1", "SSE-2", "SSE-3");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @AfterEach
+    void cleanUp() {
+        assetRepository.deleteAllById(assetRepository.findExistingIds(IDS));
+    }
+
+    @Test
+    void streamsCommittedChanges() throws Exception {
+        MvcResult stream = subscribe();
+
+        mockMvc.perform(post("/api/assets").contentType(MediaType.APPLICATION_JSON)
+                .content(assetJson("SSE-1", AssetStatus.IN_STORAGE))).andExpect(status().isCreated());
+        mockMvc.perform(put("/api/assets/{id}", "SSE-1").contentType(MediaType.APPLICATION_JSON)
+                .content(assetJson("SSE-1", AssetStatus.IN_REPAIR))).andExpect(status().isOk());
+        // Rejected updates commit nothing and are not streamed.
+        mockMvc.perform(put("/api/assets/{id}", "SSE-1").contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .content(assetJson("SSE-1", AssetStatus.DECOMMISSIONED)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/assets/{id}", "SSE-1")).andExpect(status().isNoContent());
+
+        List<JsonNode> events = awaitEvents(stream, "SSE-1", 3);
+        assertThat(events).extracting(event -> event.get("type").asText())
+                .containsExactly("CREATED", "UPDATED", "DELETED");
+        assertThat(events.get(0).get("status").asText()).isEqualTo(AssetStatus.IN_STORAGE.getDisplayName());
+        assertThat(events.get(0).get("version").asLong()).isZero();
+        assertThat(events.get(1).get("status").asText()).isEqualTo(AssetStatus.IN_REPAIR.getDisplayName());
+        assertThat(events.get(1).get("version").asLong()).isEqualTo(1);
+        assertThat(events.get(2).get("status").isNull()).isTrue();
+    }
+
+    @Test
+    void batchUpdatesCarryTheCommittedVersions() throws Exception {
+        mockMvc.perform(post("/api/assets/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + assetJson("SSE-2", AssetStatus.IN_STORAGE) + ","
+                                + assetJson("SSE-3", AssetStatus.IN_STORAGE) + "]"))
+                .andExpect(status().is2xxSuccessful());
+        MvcResult stream = subscribe();
+
+        mockMvc.perform(put("/api/assets/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + assetJson("SSE-2", AssetStatus.IN_USE) + ","
+                                + assetJson("SSE-3", AssetStatus.IN_REPAIR) + "]"))
+                .andExpect(status().is2xxSuccessful());
+
+        assertThat(awaitEvents(stream, "SSE-2", 1).get(0).get("version").asLong()).isEqualTo(1);
+        assertThat(awaitEvents(stream, "SSE-3", 1).get(0).get("status").asText())
+                .isEqualTo(AssetStatus.IN_REPAIR.getDisplayName());
+    }
+
+    private MvcResult subscribe() throws Exception {
+        return mockMvc.perform(get("/api/assets/events").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private List<JsonNode> awaitEvents(MvcResult stream, String assetId, int count) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        List<JsonNode> events;
+        do {
+            events = new ArrayList<>();
+            for (String block : stream.getResponse().getContentAsString().split("\n\n")) {
+                if (block.startsWith("event:" + AssetEventBroadcaster.CHANGE_EVENT + "\n")) {
+                    JsonNode event = objectMapper.readTree(block.substring(block.indexOf("data:") + 5));
+                    if (event.get("id").asText().equals(assetId)) {
+                        events.add(event);
+                    }
+                }
+            }
+            if (events.size() >= count) {
+                return events;
+            }
+            Thread.sleep(20);
+        } while (System.currentTimeMillis() < deadline);
+        throw new AssertionError("Expected " + count + " events for " + assetId + " but got " + events);
+    }
+
+    private String assetJson(String id, AssetStatus status) throws Exception {
+        Map<String, Object> asset = new HashMap<>();
+        asset.put("id", id);
+        asset.put("name", "Streamed " + id);
+        asset.put("category", AssetCategory.MONITOR);
+        asset.put("status", status);
+        asset.put("purchaseDate", LocalDate.of(2024, 1, 1));
+        asset.put("vendor", "Stream Vendor");
+        return objectMapper.writeValueAsString(asset);
+    }
+}
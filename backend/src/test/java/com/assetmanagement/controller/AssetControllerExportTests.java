@@ -0,0 +1,107 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.model.Asset;
+import com.assetmanagement.model.AssetCategory;
+import com.assetmanagement.model.AssetStatus;
+import com.assetmanagement.repository.AssetRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AssetControllerExportTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    private List<Asset> assets;
+
+    @BeforeAll
+    void seed() {
+        assets = assetRepository.saveAll(List.of(
+                Asset.builder()
+                        .id("EXPORT-1")
+                        .name("Monitor, 27\" \"UltraSharp\"")
+                        .category(AssetCategory.MONITOR)
+                        .status(AssetStatus.IN_STORAGE)
+                        .purchaseDate(LocalDate.of(2024, 3, 1))
+                        .vendor("Dell")
+                        .notes("Line one\nline two")
+                        .build(),
+                Asset.builder()
+                        .id("EXPORT-2")
+                        .name("Laptop")
+                        .category(AssetCategory.LAPTOP)
+                        .status(AssetStatus.IN_USE)
+                        .purchaseDate(LocalDate.of(2024, 3, 2))
+                        .vendor("Lenovo")
+                        .build()));
+    }
+
+    @AfterAll
+    void cleanUp() {
+        assetRepository.deleteAll(assets);
+    }
+
+    @Test
+    void exportsCsvWithQuotedFields() throws Exception {
+        String body = export("csv", "text/csv", "assets.csv");
+
+        assertThat(body).startsWith("id,name,category,status,purchaseDate,assignedTo,assigneeName,"
+                + "vendor,warrantyExpiry,specs,notes\r\n");
+        assertThat(body).contains("EXPORT-1,\"Monitor, 27\"\" \"\"UltraSharp\"\"\",Monitor,In Storage,2024-03-01,,,"
+                + "Dell,,,\"Line one\nline two\"\r\n");
+        assertThat(body).contains("EXPORT-2,Laptop,Laptop,In Use,2024-03-02,,,Lenovo,,,\r\n");
+    }
+
+    @Test
+    void exportsOneJsonObjectPerLine() throws Exception {
+        String body = export("ndjson", "application/x-ndjson", "assets.ndjson");
+
+        List<String> lines = Arrays.stream(body.split("\n")).filter(line -> line.contains("EXPORT-")).toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(1)).startsWith("{\"id\":\"EXPORT-2\",\"name\":\"Laptop\",\"category\":\"Laptop\","
+                + "\"status\":\"In Use\",\"purchaseDate\":\"2024-03-02\"");
+    }
+
+    @Test
+    void rejectsUnknownFormats() throws Exception {
+        mockMvc.perform(get("/api/assets/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String export(String format, String contentType, String filename) throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/assets/export").param("format", format))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(contentType))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"" + filename + "\""))
+                .andReturn().getResponse().getContentAsString();
+    }
+}
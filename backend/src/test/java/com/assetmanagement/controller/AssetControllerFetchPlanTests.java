@@ -0,0 +1,181 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.model.*;
+import com.assetmanagement.repository.AssetRepository;
+import com.assetmanagement.repository.DepartmentRepository;
+import com.assetmanagement.repository.UserRepository;
+import com.assetmanagement.service.AssetHistoryWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Asserts that every asset read endpoint runs a fixed number of SQL statements,
+ * however many assets, assignees, departments and history rows it returns.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AssetControllerFetchPlanTests {
+    private static final int ASSET_COUNT = 30;
+    private static final int HISTORY_PER_ASSET = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AssetHistoryWriter assetHistoryWriter;
+
+    private final List<Asset> assets = new ArrayList<>();
+    private final List<User> users = new ArrayList<>();
+    private final List<Department> departments = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        for (int i = 0; i < ASSET_COUNT; i++) {
+            Department department = departmentRepository.save(Department.builder()
+                    .name("Fetch Plan Department " + i)
+                    .build());
+            departments.add(department);
+
+            User user = userRepository.save(User.builder()
+                    .name("Fetch Plan User " + i)
+                    .email("fetch-plan-" + i + "@example.com")
+                    .department(department)
+                    .build());
+            users.add(user);
+
+            Asset asset = Asset.builder()
+                    .id(String.format("FP-%03d", i))
+                    .name("Fetch Plan Laptop " + i)
+                    .category(AssetCategory.LAPTOP)
+                    .status(AssetStatus.IN_USE)
+                    .purchaseDate(LocalDate.of(2024, 1, 1).plusDays(i))
+                    .assignedUser(user)
+                    .vendor("Vendor " + i)
+                    .history(new ArrayList<>())
+                    .build();
+            for (int h = 0; h < HISTORY_PER_ASSET; h++) {
+                asset.getHistory().add(AssetHistory.builder()
+                        .asset(asset)
+                        .date(LocalDate.of(2024, 1, 1).plusDays(h))
+                        .status(AssetStatus.IN_USE)
+                        .user(user)
+                        .notes("Entry " + h)
+                        .build());
+            }
+            assets.add(assetRepository.save(asset));
+        }
+    }
+
+    @AfterAll
+    void cleanUp() {
+        assetRepository.deleteAllById(assets.stream().map(Asset::getId).toList());
+        userRepository.deleteAll(users);
+        departmentRepository.deleteAll(departments);
+    }
+
+    @Test
+    void listRunsOneStatementRegardlessOfPageSize() throws Exception {
+        assertThat(statementsFor(get("/api/assets").param("limit", "2"))).isEqualTo(1);
+        assertThat(statementsFor(get("/api/assets").param("limit", "100"))).isEqualTo(1);
+    }
+
+    @Test
+    void listWithTotalAddsOneCountStatement() throws Exception {
+        assertThat(statementsFor(get("/api/assets").param("limit", "100").param("includeTotal", "true")))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void searchRunsOneStatement() throws Exception {
+        assertThat(statementsFor(get("/api/assets").param("search", "fetch plan").param("limit", "100")))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void statusFilterRunsOneStatement() throws Exception {
+        assertThat(statementsFor(get("/api/assets").param("status", "IN_USE").param("limit", "100")))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void singleAssetRunsOneStatement() throws Exception {
+        assertThat(statementsFor(get("/api/assets/{id}", "FP-000"))).isEqualTo(1);
+    }
+
+    @Test
+    void historyPageRunsExistenceQueryAndCount() throws Exception {
+        assertThat(statementsFor(get("/api/assets/{id}/history", "FP-000").param("size", "2"))).isEqualTo(3);
+    }
+
+    @Test
+    void updateAppendsHistoryWithoutLoadingIt() throws Exception {
+        Asset asset = assets.get(1);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(put("/api/assets/{id}", asset.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "id", asset.getId(),
+                                "name", asset.getName(),
+                                "category", asset.getCategory(),
+                                "status", AssetStatus.IN_REPAIR,
+                                "purchaseDate", asset.getPurchaseDate(),
+                                "vendor", asset.getVendor(),
+                                "assignedTo", users.get(1).getId()))))
+                .andExpect(status().isOk());
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+
+        assetHistoryWriter.flush();
+        mockMvc.perform(get("/api/assets/{id}/history", asset.getId()).param("size", "1"))
+                .andExpect(jsonPath("$[0].notes").value("Status changed from IN_USE to IN_REPAIR"))
+                .andExpect(header().string(AssetController.TOTAL_COUNT_HEADER, String.valueOf(HISTORY_PER_ASSET + 1)));
+    }
+
+    private long statementsFor(RequestBuilder request) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,91 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.model.AssetCategory;
+import com.assetmanagement.model.AssetStatus;
+import com.assetmanagement.repository.AssetRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "asset.search.engine=memory")
+@AutoConfigureMockMvc
+@WithMockUser
+class AssetControllerInMemorySearchTests {
+    private static final List<String> IDS = List.of("IDX-1", "IDX-2");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @AfterEach
+    void cleanUp() {
+        assetRepository.deleteAllById(assetRepository.findExistingIds(IDS));
+    }
+
+    @Test
+    void indexFollowsCommittedChanges() throws Exception {
+        mockMvc.perform(post("/api/assets").contentType(MediaType.APPLICATION_JSON)
+                .content(assetJson("IDX-1", "Memsearch Laptop"))).andExpect(status().isCreated());
+        mockMvc.perform(post("/api/assets").contentType(MediaType.APPLICATION_JSON)
+                .content(assetJson("IDX-2", "Memsearch Monitor"))).andExpect(status().isCreated());
+        search("memsearch", null).andExpect(jsonPath("$[*].id", contains("IDX-2", "IDX-1")));
+
+        mockMvc.perform(put("/api/assets/{id}", "IDX-1").contentType(MediaType.APPLICATION_JSON)
+                .content(assetJson("IDX-1", "Renamed Notebook"))).andExpect(status().isOk());
+        search("memsearch", null).andExpect(jsonPath("$[*].id", contains("IDX-2")));
+        search("notebook", null).andExpect(jsonPath("$[*].id", contains("IDX-1")));
+
+        // Both assets change in one transaction and are reloaded together once it commits.
+        mockMvc.perform(post("/api/assets/bulk-transition").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [\"IDX-1\", \"IDX-2\"], \"status\": \"In Repair\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2));
+        search("memsearch", "IN_REPAIR").andExpect(jsonPath("$[*].id", contains("IDX-2")));
+        search("notebook", "IN_REPAIR").andExpect(jsonPath("$[*].id", contains("IDX-1")));
+
+        mockMvc.perform(delete("/api/assets/{id}", "IDX-2")).andExpect(status().isNoContent());
+        search("memsearch", null).andExpect(jsonPath("$", empty()));
+    }
+
+    private ResultActions search(String term, String status) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/assets").param("search", term);
+        if (status != null) {
+            request.param("status", status);
+        }
+        return mockMvc.perform(request).andExpect(status().isOk());
+    }
+
+    private String assetJson(String id, String name) throws Exception {
+        Map<String, Object> asset = new HashMap<>();
+        asset.put("id", id);
+        asset.put("name", name);
+        asset.put("category", AssetCategory.LAPTOP);
+        asset.put("status", AssetStatus.IN_STORAGE);
+        asset.put("purchaseDate", LocalDate.of(2024, 1, 1));
+        asset.put("vendor", "Acme");
+        return objectMapper.writeValueAsString(asset);
+    }
+}
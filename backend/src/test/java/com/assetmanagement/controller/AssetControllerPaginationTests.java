@@ -0,0 +1,164 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.model.Asset;
+import com.assetmanagement.model.AssetCategory;
+import com.assetmanagement.model.AssetStatus;
+import com.assetmanagement.repository.AssetRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class AssetControllerPaginationTests {
+    private static final List<String> IDS = List.of("PAGE-1", "PAGE-2", "PAGE-3", "PAGE-4", "PAGE-5");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @BeforeEach
+    void createAssets() {
+        // PAGE-2, PAGE-4 and PAGE-5 share a name, so sorting by name has to fall back to the id.
+        assetRepository.saveAll(List.of(
+                asset("PAGE-1", "Page Monitor", LocalDate.of(2021, 3, 1)),
+                asset("PAGE-2", "Page Laptop", LocalDate.of(2023, 6, 1)),
+                asset("PAGE-3", "Page Dock", LocalDate.of(2022, 1, 1)),
+                asset("PAGE-4", "Page Laptop", LocalDate.of(2020, 9, 1)),
+                asset("PAGE-5", "Page Laptop", LocalDate.of(2024, 2, 1))));
+    }
+
+    @AfterEach
+    void deleteAssets() {
+        assetRepository.deleteAllById(assetRepository.findExistingIds(IDS));
+    }
+
+    @Test
+    void followingTheCursorVisitsEveryAssetOnce() throws Exception {
+        mockMvc.perform(get("/api/assets").param("limit", "2").param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().exists(AssetController.NEXT_CURSOR_HEADER))
+                .andExpect(header().string(AssetController.TOTAL_COUNT_HEADER,
+                        String.valueOf(assetRepository.count())));
+
+        assertThat(ownIds(walk(Map.of("limit", "2")))).containsExactlyElementsOf(IDS);
+    }
+
+    @Test
+    void ordersBySortKeyInEitherDirection() throws Exception {
+        assertThat(ownIds(walk(Map.of("limit", "2", "sort", "purchaseDate"))))
+                .containsExactly("PAGE-4", "PAGE-1", "PAGE-3", "PAGE-2", "PAGE-5");
+        assertThat(ownIds(walk(Map.of("limit", "2", "sort", "purchaseDate", "direction", "desc"))))
+                .containsExactly("PAGE-5", "PAGE-2", "PAGE-3", "PAGE-1", "PAGE-4");
+        assertThat(ownIds(walk(Map.of("limit", "2", "direction", "desc"))))
+                .containsExactly("PAGE-5", "PAGE-4", "PAGE-3", "PAGE-2", "PAGE-1");
+    }
+
+    @Test
+    void breaksTiesOnTheSortKeyByAssetId() throws Exception {
+        // One row per page puts a page boundary between every pair of tied names.
+        assertThat(ownIds(walk(Map.of("limit", "1", "sort", "name"))))
+                .containsExactly("PAGE-3", "PAGE-2", "PAGE-4", "PAGE-5", "PAGE-1");
+        assertThat(ownIds(walk(Map.of("limit", "1", "sort", "name", "direction", "desc"))))
+                .containsExactly("PAGE-1", "PAGE-5", "PAGE-4", "PAGE-2", "PAGE-3");
+    }
+
+    @Test
+    void searchesWithinAStatusAcrossPages() throws Exception {
+        assetRepository.saveAll(assetRepository.findAllById(List.of("PAGE-2", "PAGE-5")).stream()
+                .peek(asset -> asset.setStatus(AssetStatus.IN_REPAIR))
+                .toList());
+
+        mockMvc.perform(get("/api/assets").param("search", "page laptop").param("status", "IN_REPAIR")
+                        .param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(AssetController.TOTAL_COUNT_HEADER, "2"));
+        assertThat(walk(Map.of("limit", "1", "search", "page laptop", "status", "IN_REPAIR")))
+                .containsExactly("PAGE-5", "PAGE-2");
+    }
+
+    @Test
+    void rejectsMalformedOrMismatchedCursors() throws Exception {
+        mockMvc.perform(get("/api/assets").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        String garbage = Base64.getUrlEncoder().encodeToString("{\"sort\":\"id\"}".getBytes());
+        mockMvc.perform(get("/api/assets").param("cursor", garbage))
+                .andExpect(status().isBadRequest());
+
+        String nameCursor = mockMvc.perform(get("/api/assets").param("limit", "1").param("sort", "name"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(AssetController.NEXT_CURSOR_HEADER);
+        mockMvc.perform(get("/api/assets").param("cursor", nameCursor).param("sort", "vendor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/assets").param("cursor", nameCursor).param("sort", "name")
+                        .param("direction", "desc"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/assets").param("sort", "serialNumber"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /** Pages through the whole listing and returns the asset ids in the order they were served. */
+    private List<String> walk(Map<String, String> params) throws Exception {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get("/api/assets");
+            params.forEach(request::param);
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            MvcResult result = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+            List<Map<String, Object>> page = objectMapper.readValue(
+                    result.getResponse().getContentAsString(), new TypeReference<>() {
+                    });
+            page.forEach(asset -> ids.add((String) asset.get("id")));
+            cursor = result.getResponse().getHeader(AssetController.NEXT_CURSOR_HEADER);
+        } while (cursor != null);
+
+        assertThat(ids).doesNotHaveDuplicates();
+        return ids;
+    }
+
+    private static List<String> ownIds(List<String> ids) {
+        return ids.stream().filter(IDS::contains).toList();
+    }
+
+    private static Asset asset(String id, String name, LocalDate purchaseDate) {
+        return Asset.builder()
+                .id(id)
+                .name(name)
+                .category(AssetCategory.LAPTOP)
+                .status(AssetStatus.IN_STORAGE)
+                .purchaseDate(purchaseDate)
+                .vendor("Page Vendor")
+                .build();
+    }
+}
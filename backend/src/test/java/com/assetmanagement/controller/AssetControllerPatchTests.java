@@ -0,0 +1,136 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.model.*;
+import com.assetmanagement.repository.AssetRepository;
+import com.assetmanagement.repository.DepartmentRepository;
+import com.assetmanagement.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AssetControllerPatchTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Department department;
+    private User user;
+
+    @BeforeAll
+    void seed() {
+        department = departmentRepository.save(Department.builder().name("Patch Department").build());
+        user = userRepository.save(User.builder()
+                .name("Patch User")
+                .email("patch@example.com")
+                .department(department)
+                .build());
+    }
+
+    @BeforeEach
+    void createAsset() {
+        assetRepository.save(Asset.builder()
+                .id("PATCH-1")
+                .name("Patch Laptop")
+                .category(AssetCategory.LAPTOP)
+                .status(AssetStatus.IN_USE)
+                .purchaseDate(LocalDate.of(2024, 1, 1))
+                .assignedUser(user)
+                .notes("Spare charger in drawer 3")
+                .vendor("Patch Vendor")
+                .specs("16 GB RAM, 512 GB SSD")
+                .build());
+    }
+
+    @AfterEach
+    void deleteAsset() {
+        assetRepository.deleteAllById(assetRepository.findExistingIds(List.of("PATCH-1")));
+    }
+
+    @AfterAll
+    void cleanUp() {
+        userRepository.delete(user);
+        departmentRepository.delete(department);
+    }
+
+    @Test
+    void patchChangesOnlySuppliedMembersWithoutLookingUpTheAssignee() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(patch("/api/assets/{id}", "PATCH-1")
+                        .contentType(AssetController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"status\": \"In Repair\", \"notes\": null, \"assignedTo\": " + user.getId() + "}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.status").value("In Repair"))
+                .andExpect(jsonPath("$.notes").doesNotExist())
+                .andExpect(jsonPath("$.name").value("Patch Laptop"))
+                .andExpect(jsonPath("$.specs").value("16 GB RAM, 512 GB SSD"))
+                .andExpect(jsonPath("$.assignedTo").value(user.getId()));
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+
+        assertThat(assetRepository.findById("PATCH-1")).hasValueSatisfying(asset -> {
+            assertThat(asset.getStatus()).isEqualTo(AssetStatus.IN_REPAIR);
+            assertThat(asset.getNotes()).isNull();
+            assertThat(asset.getVendor()).isEqualTo("Patch Vendor");
+        });
+    }
+
+    @Test
+    void patchIsValidatedAndConditional() throws Exception {
+        mockMvc.perform(patch("/api/assets/{id}", "PATCH-1")
+                        .contentType(AssetController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"name\": null}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("name: Name is required"));
+
+        mockMvc.perform(patch("/api/assets/{id}", "PATCH-1")
+                        .contentType(AssetController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"id\": \"PATCH-2\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(patch("/api/assets/{id}", "PATCH-1")
+                        .contentType(AssetController.MERGE_PATCH_JSON_VALUE)
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .content("{\"name\": \"Stale Laptop\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(patch("/api/assets/{id}", "PATCH-MISSING")
+                        .contentType(AssetController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"name\": \"Missing Laptop\"}"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,137 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.dto.AssetStatsDTO;
+import com.assetmanagement.model.AssetCategory;
+import com.assetmanagement.model.AssetStatus;
+import com.assetmanagement.model.Department;
+import com.assetmanagement.model.User;
+import com.assetmanagement.repository.AssetRepository;
+import com.assetmanagement.repository.DepartmentRepository;
+import com.assetmanagement.repository.UserRepository;
+import com.assetmanagement.service.AssetStatsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class AssetControllerStatsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AssetStatsService assetStatsService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    private Department stats;
+    private Department other;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        stats = departmentRepository.save(Department.builder().name("Stats Department").build());
+        other = departmentRepository.save(Department.builder().name("Stats Other Department").build());
+        user = userRepository.save(User.builder()
+                .name("Stats User")
+                .email("stats-user@example.com")
+                .department(stats)
+                .build());
+        assetStatsService.reconcile();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        assetRepository.deleteAllById(assetRepository.findExistingIds(List.of("STATS-1", "STATS-2")));
+        userRepository.deleteById(user.getId());
+        departmentRepository.deleteAll(List.of(stats, other));
+    }
+
+    @Test
+    void tracksChangesByDeltaAndMatchesARebuild() throws Exception {
+        AssetStatsDTO before = assetStatsService.getStats();
+
+        mockMvc.perform(post("/api/assets").contentType(MediaType.APPLICATION_JSON)
+                        .content(asset("STATS-1", "Stats Vendor", AssetStatus.IN_USE, user.getId(), 10)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/assets").contentType(MediaType.APPLICATION_JSON)
+                        .content(asset("STATS-2", "Stats Vendor", AssetStatus.IN_STORAGE, null, 45)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(put("/api/assets/{id}", "STATS-2").contentType(MediaType.APPLICATION_JSON)
+                        .content(asset("STATS-2", "Stats Vendor", AssetStatus.IN_REPAIR, null, 45)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/assets/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(before.getTotal() + 2))
+                .andExpect(jsonPath("$.byVendor['Stats Vendor']").value(2))
+                .andExpect(jsonPath("$.byStatus['In Use']").value(before.getByStatus().get(AssetStatus.IN_USE) + 1))
+                .andExpect(jsonPath("$.byStatus['In Repair']")
+                        .value(before.getByStatus().get(AssetStatus.IN_REPAIR) + 1))
+                .andExpect(jsonPath("$.byDepartment['Stats Department']").value(1))
+                .andExpect(jsonPath("$.unassigned").value(before.getUnassigned() + 1))
+                .andExpect(jsonPath("$.warrantyExpiringWithinDays['30']")
+                        .value(before.getWarrantyExpiringWithinDays().get(30) + 1))
+                .andExpect(jsonPath("$.warrantyExpiringWithinDays['60']")
+                        .value(before.getWarrantyExpiringWithinDays().get(60) + 2));
+
+        mockMvc.perform(put("/api/users/{id}", user.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "name", user.getName(), "email", user.getEmail(), "departmentId", other.getId()))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/assets/{id}", "STATS-2"))
+                .andExpect(status().isNoContent());
+
+        AssetStatsDTO incremental = assetStatsService.getStats();
+        assertThat(incremental.getByDepartment()).containsEntry("Stats Other Department", 1L)
+                .doesNotContainKey("Stats Department");
+        assertThat(incremental.getByStatus().get(AssetStatus.IN_REPAIR))
+                .isEqualTo(before.getByStatus().get(AssetStatus.IN_REPAIR));
+
+        assetStatsService.reconcile();
+        assertThat(incremental).usingRecursiveComparison().ignoringFields("reconciledAt")
+                .isEqualTo(assetStatsService.getStats());
+    }
+
+    private String asset(String id, String vendor, AssetStatus status, Long assignedTo, int warrantyDays)
+            throws Exception {
+        Map<String, Object> asset = new HashMap<>();
+        asset.put("id", id);
+        asset.put("name", "Stats Laptop");
+        asset.put("category", AssetCategory.LAPTOP);
+        asset.put("status", status);
+        asset.put("purchaseDate", LocalDate.now().minusYears(1));
+        asset.put("warrantyExpiry", LocalDate.now().plusDays(warrantyDays));
+        asset.put("vendor", vendor);
+        asset.put("assignedTo", assignedTo);
+        return objectMapper.writeValueAsString(asset);
+    }
+}
@@ -0,0 +1,156 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.model.Asset;
+import com.assetmanagement.model.AssetCategory;
+import com.assetmanagement.model.AssetStatus;
+import com.assetmanagement.repository.AssetRepository;
+import com.assetmanagement.repository.ScanCursorRepository;
+import com.assetmanagement.repository.WarrantyAlertRepository;
+import com.assetmanagement.service.WarrantyAlertService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "asset.warranty-alerts.chunk-size=2")
+@AutoConfigureMockMvc
+@WithMockUser
+class AssetControllerWarrantyAlertTests {
+    private static final List<String> IDS = List.of("WA-1", "WA-2", "WA-3", "WA-4", "WA-5");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WarrantyAlertService warrantyAlertService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private WarrantyAlertRepository warrantyAlertRepository;
+
+    @Autowired
+    private ScanCursorRepository scanCursorRepository;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        assetRepository.saveAll(List.of(
+                asset("WA-1", LocalDate.now().plusDays(5)),
+                asset("WA-2", LocalDate.now().plusDays(20)),
+                asset("WA-3", LocalDate.now().plusDays(60)),
+                asset("WA-4", LocalDate.now().minusDays(3)),
+                asset("WA-5", null)));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        assetRepository.deleteAllById(assetRepository.findExistingIds(IDS));
+        warrantyAlertRepository.deleteAll();
+        scanCursorRepository.deleteAll();
+    }
+
+    @Test
+    void scanRecordsAssetsEnteringTheWindowOnce() throws Exception {
+        assertThat(warrantyAlertService.scan()).isEqualTo(2);
+
+        mockMvc.perform(get("/api/assets/warranty-alerts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].assetId", hasItems("WA-1", "WA-2")))
+                .andExpect(jsonPath("$[*].assetId", not(hasItem("WA-3"))))
+                .andExpect(jsonPath("$[*].assetId", not(hasItem("WA-4"))))
+                .andExpect(jsonPath("$[*].assetId", not(hasItem("WA-5"))));
+
+        // The cursor is past everything in the window; nothing is examined again.
+        assertThat(warrantyAlertService.scan()).isZero();
+        assertThat(warrantyAlertRepository.count()).isEqualTo(2);
+
+        mockMvc.perform(get("/api/assets/warranty-alerts").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().exists(AssetController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void pagesWithCursorAndLimitOnly() throws Exception {
+        warrantyAlertService.scan();
+
+        String cursor = mockMvc.perform(get("/api/assets/warranty-alerts").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].assetId").value("WA-1"))
+                .andReturn().getResponse().getHeader(AssetController.NEXT_CURSOR_HEADER);
+        mockMvc.perform(get("/api/assets/warranty-alerts").param("cursor", cursor).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].assetId").value("WA-2"))
+                .andExpect(header().doesNotExist(AssetController.NEXT_CURSOR_HEADER));
+
+        mockMvc.perform(get("/api/assets/warranty-alerts").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/assets/warranty-alerts").param("limit", "501"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void editsBehindTheCursorAreRecordedFromChangeEvents() throws Exception {
+        warrantyAlertService.scan();
+
+        mockMvc.perform(put("/api/assets/{id}", "WA-3").contentType(MediaType.APPLICATION_JSON)
+                        .content(assetJson("WA-3", LocalDate.now().plusDays(10))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/assets/{id}", "WA-1"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/assets/warranty-alerts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].assetId", hasItems("WA-2", "WA-3")))
+                .andExpect(jsonPath("$[*].assetId", not(hasItem("WA-1"))));
+        assertThat(warrantyAlertService.scan()).isZero();
+    }
+
+    private static Asset asset(String id, LocalDate warrantyExpiry) {
+        return Asset.builder()
+                .id(id)
+                .name("Warranty Laptop " + id)
+                .category(AssetCategory.LAPTOP)
+                .status(AssetStatus.IN_USE)
+                .purchaseDate(LocalDate.now().minusYears(2))
+                .vendor("Warranty Vendor")
+                .warrantyExpiry(warrantyExpiry)
+                .build();
+    }
+
+    private String assetJson(String id, LocalDate warrantyExpiry) throws Exception {
+        Map<String, Object> asset = new HashMap<>();
+        asset.put("id", id);
+        asset.put("name", "Warranty Laptop " + id);
+        asset.put("category", AssetCategory.LAPTOP);
+        asset.put("status", AssetStatus.IN_USE);
+        asset.put("purchaseDate", LocalDate.now().minusYears(2));
+        asset.put("warrantyExpiry", warrantyExpiry);
+        asset.put("vendor", "Warranty Vendor");
+        return objectMapper.writeValueAsString(asset);
+    }
+}
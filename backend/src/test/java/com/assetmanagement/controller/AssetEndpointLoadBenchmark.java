@@ -0,0 +1,222 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.BackendApplication;
+import com.assetmanagement.security.JwtUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares throughput and latency of the asset list, get and update endpoints
+ * with request handling on platform threads and on virtual threads (the
+ * {@code virtual-threads} profile). Starts the application once per mode
+ * against a populated PostgreSQL, drives it with a fixed number of closed-loop
+ * clients and, in virtual mode, reports where virtual threads were pinned to
+ * their carrier (JFR {@code jdk.VirtualThreadPinned}). Virtual mode needs a
+ * Java 21+ runtime and is skipped on older ones.
+ * <pre>
+ * mvn test -Dtest=AssetEndpointLoadBenchmark \
+ *     -Dbenchmark.datasource.url=jdbc:postgresql://localhost:5432/asset_management \
+ *     -Dbenchmark.datasource.username=... -Dbenchmark.datasource.password=... \
+ *     [-Dbenchmark.load.clients=256] [-Dbenchmark.load.duration=PT20S] [-Dbenchmark.load.pool-size=30]
+ * </pre>
+ * The update round rewrites the notes of the sampled assets and restores them afterwards.
+ */
+@EnabledIfSystemProperty(named = "benchmark.datasource.url", matches = ".+")
+class AssetEndpointLoadBenchmark {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int CLIENTS = Integer.getInteger("benchmark.load.clients", 256);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("benchmark.load.warmup", "PT5S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("benchmark.load.duration", "PT20S"));
+    private static final String POOL_SIZE = System.getProperty("benchmark.load.pool-size", "30");
+    private static final String USERNAME = System.getProperty("benchmark.load.username", "admin_username");
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .executor(Executors.newFixedThreadPool(8))
+            .build();
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        System.out.printf("Clients: %d, warmup: %s, measured: %s, connection pool: %s%n",
+                CLIENTS, WARMUP, DURATION, POOL_SIZE);
+        run("platform");
+        if (Runtime.version().feature() >= 21) {
+            run("virtual");
+        } else {
+            System.out.printf("virtual: skipped, needs Java 21+ (running %s)%n", Runtime.version());
+        }
+    }
+
+    private void run(String mode) throws Exception {
+        SpringApplicationBuilder app = new SpringApplicationBuilder(BackendApplication.class)
+                .properties("server.port=0", "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE);
+        app = mode.equals("virtual") ? app.profiles("benchmark", "virtual-threads") : app.profiles("benchmark");
+
+        Map<String, Integer> pinnedAt = new ConcurrentHashMap<>();
+        try (ConfigurableApplicationContext context = app.run();
+             RecordingStream pinning = new RecordingStream()) {
+            pinning.enable("jdk.VirtualThreadPinned").withStackTrace().withThreshold(Duration.ofMillis(1));
+            pinning.onEvent("jdk.VirtualThreadPinned",
+                    event -> pinnedAt.merge(firstApplicationFrame(event.getStackTrace().getFrames()), 1, Integer::sum));
+            pinning.startAsync();
+
+            String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            String token = "Bearer " + context.getBean(JwtUtil.class).generateToken(USERNAME);
+            List<String> ids = new ArrayList<>();
+            send(token, HttpRequest.newBuilder(URI.create(base + "/api/assets?limit=500")).GET())
+                    .forEach(asset -> ids.add(asset.get("id").asText()));
+            if (ids.isEmpty()) {
+                throw new IllegalStateException("The benchmark database has no assets");
+            }
+            Map<String, JsonNode> originals = new HashMap<>();
+            for (String id : ids) {
+                originals.put(id, send(token, HttpRequest.newBuilder(URI.create(base + "/api/assets/" + id)).GET()));
+            }
+
+            measure(mode, "GET /api/assets", client -> HttpRequest.newBuilder(
+                    URI.create(base + "/api/assets?limit=50")).GET(), token);
+            measure(mode, "GET /api/assets/{id}", client -> HttpRequest.newBuilder(
+                    URI.create(base + "/api/assets/" + ids.get(client.next() % ids.size()))).GET(), token);
+            // Each client updates its own assets, so optimistic locking conflicts stay out of the numbers.
+            measure(mode, "PUT /api/assets/{id}", client -> {
+                String id = ids.get((client.index + CLIENTS * client.next()) % ids.size());
+                ObjectNode body = originals.get(id).deepCopy();
+                body.remove("history");
+                body.remove("version");
+                body.put("notes", "load test " + client.next());
+                return put(base, id, body);
+            }, token);
+
+            for (Map.Entry<String, JsonNode> original : originals.entrySet()) {
+                ObjectNode body = original.getValue().deepCopy();
+                body.remove("history");
+                body.remove("version");
+                send(token, put(base, original.getKey(), body));
+            }
+        }
+
+        if (mode.equals("virtual")) {
+            if (pinnedAt.isEmpty()) {
+                System.out.println("virtual: no pinned virtual threads recorded");
+            }
+            pinnedAt.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(e -> System.out.printf("virtual: pinned %5d x at %s%n", e.getValue(), e.getKey()));
+        }
+    }
+
+    private void measure(String mode, String label, RequestFactory requests, String token) throws Exception {
+        drive(requests, token, WARMUP);
+        Result result = drive(requests, token, DURATION);
+        long[] samples = result.latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        System.out.printf("%-8s %-22s %9.1f req/s   p50 %8.2f ms   p99 %8.2f ms   errors %d%n",
+                mode, label, samples.length / (double) DURATION.toSeconds(),
+                percentile(samples, 0.50), percentile(samples, 0.99), result.errors.sum());
+    }
+
+    private Result drive(RequestFactory requests, String token, Duration duration) throws Exception {
+        Result result = new Result();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        long deadline = System.nanoTime() + duration.toNanos();
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                Client client = new Client(i);
+                running.add(clients.submit(() -> {
+                    List<Long> latencies = new ArrayList<>();
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = requests.next(client).header("Authorization", token).build();
+                        long start = System.nanoTime();
+                        try {
+                            int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status >= 400) {
+                                result.errors.increment();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            result.errors.increment();
+                            continue;
+                        }
+                        latencies.add(System.nanoTime() - start);
+                    }
+                    result.latencies.addAll(latencies);
+                    return null;
+                }));
+            }
+            for (Future<?> client : running) {
+                client.get();
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        return result;
+    }
+
+    private JsonNode send(String token, HttpRequest.Builder request) throws Exception {
+        HttpResponse<String> response = http.send(request.header("Authorization", token).build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(response.statusCode() + " " + response.body());
+        }
+        return MAPPER.readTree(response.body());
+    }
+
+    private static HttpRequest.Builder put(String base, String id, JsonNode body) {
+        return HttpRequest.newBuilder(URI.create(base + "/api/assets/" + id))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body.toString()));
+    }
+
+    private static String firstApplicationFrame(List<RecordedFrame> frames) {
+        return frames.stream()
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk.") && !frame.startsWith("sun."))
+                .findFirst()
+                .orElse(frames.isEmpty() ? "(no stack trace)" : frames.get(0).getMethod().getType().getName());
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private interface RequestFactory {
+        HttpRequest.Builder next(Client client);
+    }
+
+    private static final class Client {
+        private final int index;
+        private final AtomicInteger requests = new AtomicInteger();
+
+        private Client(int index) {
+            this.index = index;
+        }
+
+        int next() {
+            return requests.getAndIncrement();
+        }
+    }
+
+    private static final class Result {
+        private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final LongAdder errors = new LongAdder();
+    }
+}
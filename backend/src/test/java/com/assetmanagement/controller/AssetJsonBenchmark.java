@@ -0,0 +1,86 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.JmhBenchmarks;
+import com.assetmanagement.dto.AssetDTO;
+import com.assetmanagement.dto.AssetHistoryDTO;
+import com.assetmanagement.model.AssetCategory;
+import com.assetmanagement.model.AssetStatus;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serializing a list of {@link AssetDTO}s, each with a short history,
+ * to JSON with the application's Jackson settings.
+ * <pre>
+ * mvn test -Dtest=AssetJsonBenchmark -Dbenchmark.jmh=true
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssetJsonBenchmark {
+    private static final int HISTORY_SIZE = 10;
+
+    @Param({"10", "100", "1000"})
+    public int assetCount;
+
+    private ObjectWriter writer;
+    private List<AssetDTO> assets;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+        assets = new ArrayList<>(assetCount);
+        for (int i = 0; i < assetCount; i++) {
+            List<AssetHistoryDTO> history = new ArrayList<>(HISTORY_SIZE);
+            for (int h = 0; h < HISTORY_SIZE; h++) {
+                history.add(AssetHistoryDTO.builder()
+                        .id((long) i * HISTORY_SIZE + h)
+                        .date(LocalDate.of(2023, 3, 1).plusDays(h))
+                        .status(AssetStatus.values()[h % AssetStatus.values().length])
+                        .userId(h % 2 == 0 ? (long) i : null)
+                        .notes("History entry " + h)
+                        .build());
+            }
+            assets.add(AssetDTO.builder()
+                    .id(String.format("BM-%05d", i))
+                    .name("Asset " + i)
+                    .category(AssetCategory.values()[i % AssetCategory.values().length])
+                    .status(AssetStatus.values()[i % AssetStatus.values().length])
+                    .purchaseDate(LocalDate.of(2023, 3, 1))
+                    .assignedTo((long) i)
+                    .notes("Docking station and spare charger")
+                    .vendor("Lenovo")
+                    .warrantyExpiry(LocalDate.of(2026, 3, 1))
+                    .specs("i7-1365U, 32 GB RAM, 1 TB SSD")
+                    .history(history)
+                    .version(1L)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(assets);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark.jmh", matches = "true")
+    void run() throws Exception {
+        JmhBenchmarks.run(AssetJsonBenchmark.class);
+    }
+}
@@ -0,0 +1,73 @@
+package com.assetmanagement.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Value("${security.login.max-attempts-per-username:5}")
+    private int maxAttemptsPerUsername;
+
+    @Test
+    void logsInWithValidCredentials() throws Exception {
+        perform(login("admin_username", "admin_password", "10.0.0.1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty());
+    }
+
+    @Test
+    void throttlesRepeatedAttemptsForOneUsername() throws Exception {
+        for (int i = 0; i < maxAttemptsPerUsername; i++) {
+            perform(login("throttled_admin", "wrong_password", "10.0.0.2"))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        // Refused before the password check, without going async.
+        mockMvc.perform(login("Throttled_Admin", "wrong_password", "10.0.0.3"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void rejectsUnknownUsernames() throws Exception {
+        perform(login("no_such_admin", "admin_password", "10.0.0.4"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    /** Logins that reach the password check complete asynchronously. */
+    private ResultActions perform(RequestBuilder login) throws Exception {
+        MvcResult result = mockMvc.perform(login).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private static RequestBuilder login(String username, String password, String clientIp) {
+        return post("/api/auth/login")
+                .with(request -> {
+                    request.setRemoteAddr(clientIp);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}");
+    }
+}
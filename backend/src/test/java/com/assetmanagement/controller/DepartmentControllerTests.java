@@ -0,0 +1,123 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.model.*;
+import com.assetmanagement.repository.AssetRepository;
+import com.assetmanagement.repository.DepartmentRepository;
+import com.assetmanagement.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Asserts that department employee and asset counts come from one aggregate
+ * query instead of loading each department's users.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DepartmentControllerTests {
+    private static final int USER_COUNT = 25;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Department staffed;
+    private Department empty;
+    private final List<User> users = new ArrayList<>();
+    private final List<Asset> assets = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        staffed = departmentRepository.save(Department.builder().name("Counted Department").build());
+        empty = departmentRepository.save(Department.builder().name("Empty Department").build());
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = userRepository.save(User.builder()
+                    .name("Counted User " + i)
+                    .email("counted-" + i + "@example.com")
+                    .department(staffed)
+                    .build());
+            users.add(user);
+
+            if (i % 5 == 0) {
+                for (int a = 0; a < 2; a++) {
+                    assets.add(assetRepository.save(Asset.builder()
+                            .id(String.format("DC-%02d-%d", i, a))
+                            .name("Counted Laptop " + i + "-" + a)
+                            .category(AssetCategory.LAPTOP)
+                            .status(AssetStatus.IN_USE)
+                            .purchaseDate(LocalDate.of(2024, 1, 1))
+                            .assignedUser(user)
+                            .vendor("Vendor " + i)
+                            .build()));
+                }
+            }
+        }
+    }
+
+    @AfterAll
+    void cleanUp() {
+        assetRepository.deleteAll(assets);
+        userRepository.deleteAll(users);
+        departmentRepository.deleteAll(List.of(staffed, empty));
+    }
+
+    @Test
+    void listReturnsCountsFromOneStatement() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/departments"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == %d)].employeeCount", staffed.getId()).value(USER_COUNT))
+                .andExpect(jsonPath("$[?(@.id == %d)].assetCount", staffed.getId()).value(10))
+                .andExpect(jsonPath("$[?(@.id == %d)].employeeCount", empty.getId()).value(0))
+                .andExpect(jsonPath("$[?(@.id == %d)].assetCount", empty.getId()).value(0));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void deleteIsRejectedWithoutLoadingUsers() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(delete("/api/departments/{id}", staffed.getId()))
+                .andExpect(status().isBadRequest());
+
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,63 @@
+package com.assetmanagement.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PrometheusEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void publishesEndpointServicePoolAndHibernateMetrics() throws Exception {
+        mockMvc.perform(get("/api/assets").with(user("metrics"))).andExpect(status().isOk());
+
+        String scrape = scrape();
+
+        assertThat(scrape)
+                .containsPattern("http_server_requests_seconds_bucket\\{.*uri=\"/api/assets\"")
+                .containsPattern("asset_service_seconds_bucket\\{.*method=\"getAllAssets\"")
+                .contains("hikaricp_connections_active")
+                .contains("hibernate_query_executions_total")
+                .contains("hibernate_entities_loads_total")
+                .contains("hibernate_second_level_cache_requests_total")
+                .contains("jvm_gc_memory_allocated_bytes_total");
+    }
+
+    @Test
+    void onlyAssetEndpointsHaveFineGrainedHistograms() throws Exception {
+        mockMvc.perform(get("/api/assets").with(user("metrics"))).andExpect(status().isOk());
+        mockMvc.perform(get("/api/departments").with(user("metrics"))).andExpect(status().isOk());
+
+        String scrape = scrape();
+
+        assertThat(buckets(scrape, "/api/assets")).isGreaterThan(20);
+        // The three service-level objectives plus +Inf.
+        assertThat(buckets(scrape, "/api/departments")).isEqualTo(4);
+    }
+
+    // Scraped without credentials.
+    private String scrape() throws Exception {
+        return mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private static long buckets(String scrape, String uri) {
+        return scrape.lines()
+                .filter(line -> line.startsWith("http_server_requests_seconds_bucket{"))
+                .filter(line -> line.contains("method=\"GET\"") && line.contains("status=\"200\""))
+                .filter(line -> line.contains("uri=\"" + uri + "\""))
+                .count();
+    }
+}
@@ -0,0 +1,141 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.config.HibernateCacheConfig;
+import com.assetmanagement.model.Department;
+import com.assetmanagement.model.User;
+import com.assetmanagement.repository.DepartmentRepository;
+import com.assetmanagement.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Asserts that users and departments are served from the second-level cache and
+ * that updates and deletes are visible straight away.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class UserControllerCacheTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterBinder hibernateCacheMetrics;
+
+    private Department engineering;
+    private Department finance;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        engineering = departmentRepository.save(Department.builder().name("Cached Engineering").build());
+        finance = departmentRepository.save(Department.builder().name("Cached Finance").build());
+        user = userRepository.save(User.builder()
+                .name("Cached User")
+                .email("cached-user@example.com")
+                .department(engineering)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.findByEmail("cached-user@example.com").ifPresent(userRepository::delete);
+        userRepository.findByEmail("cached-renamed@example.com").ifPresent(userRepository::delete);
+        departmentRepository.deleteAll(List.of(engineering, finance));
+    }
+
+    @Test
+    void readsHitTheCacheAndSeeUpdatesAndDeletes() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        hibernateCacheMetrics.bindTo(registry);
+        double hitsBefore = usersRegionHits(registry);
+
+        // Identity-generated inserts are not cached; the first read loads the user.
+        mockMvc.perform(get("/api/users/{id}", user.getId())).andExpect(status().isOk());
+        assertThat(statementsFor(get("/api/users/{id}", user.getId()), status().isOk())).isZero();
+
+        mockMvc.perform(put("/api/users/{id}", user.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content(userJson("Renamed User", "cached-user@example.com", finance.getId())))
+                .andExpect(status().isOk());
+        assertThat(statementsFor(get("/api/users/{id}", user.getId()), status().isOk())).isZero();
+        mockMvc.perform(get("/api/users/{id}", user.getId()))
+                .andExpect(jsonPath("$.name").value("Renamed User"))
+                .andExpect(jsonPath("$.departmentName").value("Cached Finance"));
+
+        mockMvc.perform(delete("/api/users/{id}", user.getId()))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/users/{id}", user.getId()))
+                .andExpect(status().isNotFound());
+
+        assertThat(usersRegionHits(registry)).isGreaterThan(hitsBefore);
+    }
+
+    @Test
+    void emailCheckIsCachedUntilUsersChange() throws Exception {
+        String duplicate = userJson("Duplicate User", "cached-user@example.com", engineering.getId());
+        mockMvc.perform(post("/api/users").contentType(MediaType.APPLICATION_JSON).content(duplicate))
+                .andExpect(status().isBadRequest());
+        assertThat(statementsFor(post("/api/users").contentType(MediaType.APPLICATION_JSON).content(duplicate),
+                status().isBadRequest())).isZero();
+
+        mockMvc.perform(put("/api/users/{id}", user.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content(userJson("Cached User", "cached-renamed@example.com", engineering.getId())))
+                .andExpect(status().isOk());
+
+        // The email is free again; a stale cached answer would still reject it.
+        mockMvc.perform(post("/api/users").contentType(MediaType.APPLICATION_JSON).content(duplicate))
+                .andExpect(status().isCreated());
+    }
+
+    private long statementsFor(RequestBuilder request, ResultMatcher expectedStatus) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(request).andExpect(expectedStatus);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static double usersRegionHits(SimpleMeterRegistry registry) {
+        return registry.get("cache.gets")
+                .tags("cache", HibernateCacheConfig.USERS_REGION, "result", "hit")
+                .functionCounter().count();
+    }
+
+    private String userJson(String name, String email, Long departmentId) throws Exception {
+        return objectMapper.writeValueAsString(Map.of("name", name, "email", email, "departmentId", departmentId));
+    }
+}
@@ -0,0 +1,71 @@
+package com.assetmanagement.controller;
+
+import com.assetmanagement.model.*;
+import com.assetmanagement.repository.AssetRepository;
+import com.assetmanagement.repository.DepartmentRepository;
+import com.assetmanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class UserControllerDeleteTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @AfterEach
+    void cleanUp() {
+        assetRepository.findById("DEL-1").ifPresent(assetRepository::delete);
+        userRepository.findByEmail("delete-user@example.com").ifPresent(userRepository::delete);
+        departmentRepository.findByName("Delete Department").ifPresent(departmentRepository::delete);
+    }
+
+    @Test
+    void refusesToDeleteAUserWhoStillHasAssets() throws Exception {
+        Department department = departmentRepository.save(Department.builder().name("Delete Department").build());
+        User user = userRepository.save(User.builder()
+                .name("Delete User").email("delete-user@example.com").department(department).build());
+        Asset asset = assetRepository.save(Asset.builder()
+                .id("DEL-1")
+                .name("Delete Laptop")
+                .category(AssetCategory.LAPTOP)
+                .status(AssetStatus.IN_USE)
+                .purchaseDate(LocalDate.of(2024, 1, 1))
+                .vendor("Delete Vendor")
+                .assignedUser(user)
+                .build());
+
+        mockMvc.perform(delete("/api/users/{id}", user.getId()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Cannot delete user with assigned assets"));
+        assertThat(assetRepository.existsById("DEL-1")).isTrue();
+        assertThat(userRepository.existsById(user.getId())).isTrue();
+
+        asset.setAssignedUser(null);
+        assetRepository.save(asset);
+        mockMvc.perform(delete("/api/users/{id}", user.getId())).andExpect(status().isNoContent());
+        assertThat(assetRepository.existsById("DEL-1")).isTrue();
+    }
+}
@@ -0,0 +1,85 @@
+package com.assetmanagement.model;
+
+import com.assetmanagement.JmhBenchmarks;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding asset categories and statuses from request values:
+ * {@link AssetCategory#fromDisplayName} directly, and both enums as JSON
+ * strings through Jackson. Inputs cover the first and last display names and
+ * a constant name, since lookups scan the values in order.
+ * <pre>
+ * mvn test -Dtest=AssetEnumCodecBenchmark -Dbenchmark.jmh=true
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssetEnumCodecBenchmark {
+    @Param({"firstDisplayName", "lastDisplayName", "constantName"})
+    public String input;
+
+    private String category;
+    private String categoryJson;
+    private String statusJson;
+    private ObjectReader categoryReader;
+    private ObjectReader statusReader;
+
+    @Setup
+    public void setUp() throws Exception {
+        AssetCategory[] categories = AssetCategory.values();
+        AssetStatus[] statuses = AssetStatus.values();
+        String status;
+        switch (input) {
+            case "firstDisplayName" -> {
+                category = categories[0].getDisplayName();
+                status = statuses[0].getDisplayName();
+            }
+            case "lastDisplayName" -> {
+                category = categories[categories.length - 1].getDisplayName();
+                status = statuses[statuses.length - 1].getDisplayName();
+            }
+            default -> {
+                category = AssetCategory.NETWORK_DEVICE.name();
+                // Jackson ignores AssetStatus.fromDisplayName (it returns an AssetCategory),
+                // so statuses only decode from display names.
+                status = AssetStatus.IN_REPAIR.getDisplayName();
+            }
+        }
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        categoryJson = objectMapper.writeValueAsString(category);
+        statusJson = objectMapper.writeValueAsString(status);
+        categoryReader = objectMapper.readerFor(AssetCategory.class);
+        statusReader = objectMapper.readerFor(AssetStatus.class);
+    }
+
+    @Benchmark
+    public AssetCategory categoryFromDisplayName() {
+        return AssetCategory.fromDisplayName(category);
+    }
+
+    @Benchmark
+    public AssetCategory categoryFromJson() throws Exception {
+        return categoryReader.readValue(categoryJson);
+    }
+
+    @Benchmark
+    public AssetStatus statusFromJson() throws Exception {
+        return statusReader.readValue(statusJson);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark.jmh", matches = "true")
+    void run() throws Exception {
+        JmhBenchmarks.run(AssetEnumCodecBenchmark.class);
+    }
+}
@@ -0,0 +1,88 @@
+package com.assetmanagement.repository;
+
+import com.assetmanagement.dto.AssetPageRequest;
+import com.assetmanagement.model.Asset;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.test.context.ActiveProfiles;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Compares the latency of the legacy {@code LIKE '%term%'} search with the
+ * trigram-indexed, relevance-ranked search. Needs a populated PostgreSQL:
+ * <pre>
+ * mvn test -Dtest=AssetSearchLatencyBenchmark \
+ *     -Dbenchmark.datasource.url=jdbc:postgresql://localhost:5432/asset_management \
+ *     -Dbenchmark.datasource.username=... -Dbenchmark.datasource.password=...
+ * </pre>
+ */
+@SpringBootTest
+@ActiveProfiles("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.datasource.url", matches = ".+")
+class AssetSearchLatencyBenchmark {
+    private static final String LEGACY_SEARCH = """
+            SELECT a FROM Asset a
+            LEFT JOIN a.assignedUser u
+            WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :searchTerm, '%'))
+               OR LOWER(u.name) LIKE LOWER(CONCAT('%', :searchTerm, '%'))
+            """;
+    private static final List<String> TERMS = List.of("mac", "dell", "thinkpad", "johnson", "ssd", "it-0", "xyzzy");
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 30;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void compareSearchLatency() {
+        System.out.printf("Assets: %d, terms: %s%n", assetRepository.count(), TERMS);
+
+        report("legacy LIKE scan (unbounded)", term -> entityManager
+                .createQuery(LEGACY_SEARCH, Asset.class)
+                .setParameter("searchTerm", term)
+                .getResultList());
+        report("legacy LIKE scan (first page)", term -> entityManager
+                .createQuery(LEGACY_SEARCH, Asset.class)
+                .setParameter("searchTerm", term)
+                .setMaxResults(AssetPageRequest.DEFAULT_LIMIT)
+                .getResultList());
+        report("trigram ranked search (first page)", term -> assetRepository
+                .searchSummaries(term, null, ScrollPosition.keyset(), Limit.of(AssetPageRequest.DEFAULT_LIMIT)));
+    }
+
+    private void report(String label, Consumer<String> search) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            TERMS.forEach(search);
+        }
+
+        long[] samples = new long[MEASURED_ROUNDS * TERMS.size()];
+        int n = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            for (String term : TERMS) {
+                long start = System.nanoTime();
+                search.accept(term);
+                samples[n++] = System.nanoTime() - start;
+                entityManager.clear();
+            }
+        }
+
+        Arrays.sort(samples);
+        System.out.printf("%-36s p50 %8.2f ms   p95 %8.2f ms   p99 %8.2f ms%n", label,
+                percentile(samples, 0.50), percentile(samples, 0.95), percentile(samples, 0.99));
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,94 @@
+package com.assetmanagement.security;
+
+import com.assetmanagement.model.Admin;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Asserts that JWT-authenticated requests resolve their principal from
+ * {@link PrincipalCache} instead of the admins table.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class JwtAuthenticationFilterTests {
+    private static final String USERNAME = "admin_username";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String bearer;
+
+    @BeforeEach
+    void setUp() {
+        principalCache.removeUserFromCache(USERNAME);
+        bearer = "Bearer " + jwtUtil.generateToken(USERNAME);
+    }
+
+    @Test
+    void loadsThePrincipalOnceAcrossRequests() throws Exception {
+        long loads = adminLoads(() -> {
+            for (int i = 0; i < 3; i++) {
+                mockMvc.perform(get("/api/departments").header(HttpHeaders.AUTHORIZATION, bearer))
+                        .andExpect(status().isOk());
+            }
+        });
+
+        assertThat(loads).isEqualTo(1);
+    }
+
+    @Test
+    void reloadsThePrincipalAfterAProfileUpdate() throws Exception {
+        mockMvc.perform(get("/api/departments").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+        MvcResult update = mockMvc.perform(put("/api/admin/profile").header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"currentPassword\":\"admin_password\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(update)).andExpect(status().isOk());
+
+        long loads = adminLoads(() -> mockMvc.perform(get("/api/departments")
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk()));
+
+        assertThat(loads).isEqualTo(1);
+    }
+
+    private long adminLoads(ThrowingRunnable requests) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        requests.run();
+        return statistics.getEntityStatistics(Admin.class.getName()).getLoadCount();
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
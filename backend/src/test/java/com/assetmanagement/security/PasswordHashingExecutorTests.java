@@ -0,0 +1,104 @@
+package com.assetmanagement.security;
+
+import com.assetmanagement.exception.LoginRejectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTests {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final BlockingEncoder encoder = new BlockingEncoder(release);
+    private PasswordHashingExecutor executor = new PasswordHashingExecutor(encoder, 1, 1, Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.destroy();
+    }
+
+    @Test
+    void rejectsWorkBeyondThePoolAndQueue() throws Exception {
+        CompletableFuture<Boolean> running = executor.matches("block", "block");
+        assertThat(encoder.started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = executor.matches("secret", "secret");
+
+        assertThat(executor.queuedTasks()).isEqualTo(1);
+        assertThatThrownBy(() -> executor.matches("secret", "secret"))
+                .isInstanceOfSatisfying(LoginRejectedException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+
+        release.countDown();
+        assertThat(running.join()).isTrue();
+        assertThat(queued.join()).isTrue();
+    }
+
+    @Test
+    void dropsChecksThatTimeOutInTheQueue() throws Exception {
+        executor.destroy();
+        executor = new PasswordHashingExecutor(encoder, 1, 1, Duration.ofMillis(100));
+        executor.matches("block", "block");
+        assertThat(encoder.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Boolean> queued = executor.matches("secret", "secret");
+        assertThatThrownBy(queued::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(LoginRejectedException.class);
+
+        // The running hash cannot be stopped; the timed-out one never starts.
+        release.countDown();
+        // The skipped check still holds its queue slot until the worker takes it off.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.queuedTasks() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        executor.matches("secret", "secret").join();
+        assertThat(encoder.checks.get()).isEqualTo(2);
+    }
+
+    @Test
+    void unknownUsersNeverMatchButStillHash() {
+        int before = encoder.checks.get();
+        assertThat(executor.matches("unknown user", null).join()).isFalse();
+        assertThat(encoder.checks.get()).isEqualTo(before + 1);
+    }
+
+    /** Compares plainly; checking the password "block" waits until released. */
+    private static final class BlockingEncoder implements PasswordEncoder {
+        private final CountDownLatch release;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final AtomicInteger checks = new AtomicInteger();
+
+        private BlockingEncoder(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            checks.incrementAndGet();
+            if ("block".contentEquals(rawPassword)) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
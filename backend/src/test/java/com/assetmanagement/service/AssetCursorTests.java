@@ -0,0 +1,71 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.model.AssetStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class AssetCursorTests {
+
+    @Test
+    void decodesWhatItEncodesForEverySortKey() {
+        roundTrip(AssetSortKey.ID, Sort.Direction.ASC, null);
+        roundTrip(AssetSortKey.NAME, Sort.Direction.DESC, "Dell Latitude");
+        roundTrip(AssetSortKey.STATUS, Sort.Direction.ASC, AssetStatus.IN_REPAIR);
+        roundTrip(AssetSortKey.PURCHASE_DATE, Sort.Direction.DESC, LocalDate.of(2024, 2, 29));
+    }
+
+    @Test
+    void appendsTheAssetIdAsTieBreakerInTheSameDirection() {
+        assertThat(AssetCursor.sort(AssetSortKey.VENDOR, Sort.Direction.DESC))
+                .containsExactly(Sort.Order.desc("vendor"), Sort.Order.desc("id"));
+        assertThat(AssetCursor.sort(AssetSortKey.ID, Sort.Direction.ASC))
+                .containsExactly(Sort.Order.asc("id"));
+    }
+
+    @Test
+    void startsFromTheBeginningWithoutACursor() {
+        assertThat(AssetCursor.decode(null, AssetSortKey.NAME, Sort.Direction.ASC).isInitial()).isTrue();
+        assertThat(AssetCursor.decode(" ", AssetSortKey.NAME, Sort.Direction.ASC).isInitial()).isTrue();
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> AssetCursor.decode("%%%", AssetSortKey.ID, Sort.Direction.ASC));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> AssetCursor.decode(encodeJson("{\"sort\":\"id\",\"direction\":\"ASC\"}"),
+                        AssetSortKey.ID, Sort.Direction.ASC));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> AssetCursor.decode(
+                        encodeJson("{\"sort\":\"purchaseDate\",\"direction\":\"ASC\",\"value\":\"soon\",\"id\":\"A\"}"),
+                        AssetSortKey.PURCHASE_DATE, Sort.Direction.ASC));
+    }
+
+    private static void roundTrip(AssetSortKey sortKey, Sort.Direction direction, Object value) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if (value != null) {
+            keys.put(sortKey.getProperty(), value);
+        }
+        keys.put(AssetSortKey.ID.getProperty(), "LAP-042");
+
+        String token = AssetCursor.encode(sortKey, direction, ScrollPosition.forward(keys));
+
+        assertThat(((KeysetScrollPosition) AssetCursor.decode(token, sortKey, direction)).getKeys())
+                .isEqualTo(keys);
+        Sort.Direction other = direction.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        assertThatIllegalArgumentException().isThrownBy(() -> AssetCursor.decode(token, sortKey, other));
+    }
+
+    private static String encodeJson(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes());
+    }
+}
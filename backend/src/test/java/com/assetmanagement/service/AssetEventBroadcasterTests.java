@@ -0,0 +1,155 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.dto.AssetEventDTO;
+import com.assetmanagement.dto.AssetSummaryDTO;
+import com.assetmanagement.event.AssetChangeEvent;
+import com.assetmanagement.model.AssetStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssetEventBroadcasterTests {
+    private static final Duration STALL_TIMEOUT = Duration.ofMillis(200);
+    private static final int SENDER_THREADS = 4;
+
+    private AssetEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new AssetEventBroadcaster(new MockEnvironment(), 16, STALL_TIMEOUT, Duration.ofMinutes(1),
+                SENDER_THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    void blockedSubscribersDoNotHoldUpTheOthers() throws Exception {
+        // Two senders stay blocked; the other two serve everyone else.
+        BlockingEmitter firstBlocked = new BlockingEmitter();
+        BlockingEmitter secondBlocked = new BlockingEmitter();
+        RecordingEmitter firstHealthy = new RecordingEmitter();
+        RecordingEmitter secondHealthy = new RecordingEmitter();
+        broadcaster.subscribe(firstBlocked);
+        broadcaster.subscribe(secondBlocked);
+        broadcaster.subscribe(firstHealthy);
+        broadcaster.subscribe(secondHealthy);
+        assertThat(firstBlocked.writing.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(secondBlocked.writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (String id : List.of("EVT-1", "EVT-2", "EVT-3")) {
+            broadcaster.onAssetChange(AssetChangeEvent.created(
+                    AssetSummaryDTO.builder().id(id).status(AssetStatus.IN_STORAGE).build(), 0L));
+        }
+
+        assertThat(firstHealthy.awaitChanges(3)).containsExactly("EVT-1", "EVT-2", "EVT-3");
+        assertThat(secondHealthy.awaitChanges(3)).containsExactly("EVT-1", "EVT-2", "EVT-3");
+    }
+
+    @Test
+    void manySubscribersShareTheSenderPool() throws Exception {
+        List<RecordingEmitter> emitters = new ArrayList<>();
+        Set<Thread> senders = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 50; i++) {
+            RecordingEmitter emitter = new RecordingEmitter(senders);
+            emitters.add(emitter);
+            broadcaster.subscribe(emitter);
+        }
+
+        broadcaster.onAssetChange(AssetChangeEvent.created(
+                AssetSummaryDTO.builder().id("EVT-1").status(AssetStatus.IN_STORAGE).build(), 0L));
+
+        for (RecordingEmitter emitter : emitters) {
+            assertThat(emitter.awaitChanges(1)).containsExactly("EVT-1");
+        }
+        assertThat(senders).hasSizeLessThanOrEqualTo(SENDER_THREADS);
+    }
+
+    @Test
+    void stalledWritesAreInterruptedWithoutBlockingTheHeartbeat() throws Exception {
+        BlockingEmitter blocked = new BlockingEmitter();
+        RecordingEmitter healthy = new RecordingEmitter();
+        broadcaster.subscribe(blocked);
+        broadcaster.subscribe(healthy);
+        assertThat(blocked.writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread.sleep(STALL_TIMEOUT.toMillis() * 2);
+        long started = System.nanoTime();
+        broadcaster.heartbeat();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(STALL_TIMEOUT);
+        assertThat(blocked.interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(blocked.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+    }
+
+    /** A client that never reads: its first write blocks until the sender is interrupted. */
+    private static final class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            writing.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IOException("Write aborted", e);
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+            super.complete();
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> changes = new CopyOnWriteArrayList<>();
+        private final Set<Thread> senders;
+
+        private RecordingEmitter() {
+            this(ConcurrentHashMap.newKeySet());
+        }
+
+        private RecordingEmitter(Set<Thread> senders) {
+            this.senders = senders;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            senders.add(Thread.currentThread());
+            builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(AssetEventDTO.class::isInstance)
+                    .forEach(data -> changes.add(((AssetEventDTO) data).getId()));
+        }
+
+        List<String> awaitChanges(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (changes.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return changes;
+        }
+    }
+}
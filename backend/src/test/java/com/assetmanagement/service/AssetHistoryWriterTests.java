@@ -0,0 +1,90 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.model.Asset;
+import com.assetmanagement.model.AssetCategory;
+import com.assetmanagement.model.AssetStatus;
+import com.assetmanagement.repository.AssetRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class AssetHistoryWriterTests {
+    private static final String ASSET_ID = "HIST-1";
+    private static final long BAD_ID = 9_000_001L;
+    private static final List<Long> GOOD_IDS = List.of(9_000_002L, 9_000_003L, 9_000_004L);
+
+    @Autowired
+    private AssetHistoryWriter assetHistoryWriter;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        assetRepository.save(Asset.builder()
+                .id(ASSET_ID)
+                .name("History Laptop")
+                .category(AssetCategory.LAPTOP)
+                .status(AssetStatus.IN_USE)
+                .purchaseDate(LocalDate.of(2024, 1, 1))
+                .vendor("History Vendor")
+                .build());
+        // The bad entry's id is already taken in asset_history, so moving it there always fails.
+        jdbcTemplate.update("INSERT INTO asset_history (id, asset_id, date, status, notes) VALUES (?, ?, ?, ?, ?)",
+                BAD_ID, ASSET_ID, LocalDate.of(2024, 1, 1), AssetStatus.IN_USE.name(), "Already written");
+        insertPending(BAD_ID);
+        GOOD_IDS.forEach(this::insertPending);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM pending_asset_history WHERE asset_id = ?", ASSET_ID);
+        jdbcTemplate.update("DELETE FROM asset_history WHERE asset_id = ?", ASSET_ID);
+        assetRepository.deleteById(ASSET_ID);
+    }
+
+    @Test
+    void oneBadEntryDoesNotHoldBackTheRestOfItsBatch() {
+        assetHistoryWriter.flush();
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM asset_history WHERE asset_id = ? ORDER BY id",
+                Long.class, ASSET_ID)).containsExactly(BAD_ID, 9_000_002L, 9_000_003L, 9_000_004L);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM pending_asset_history WHERE asset_id = ?",
+                Long.class, ASSET_ID)).containsExactly(BAD_ID);
+        assertThat(attempts()).isPositive();
+    }
+
+    @Test
+    void sweepStopsRetryingAfterMaxAttempts() {
+        assetHistoryWriter.flush();
+        for (int i = 0; i < 6; i++) {
+            assetHistoryWriter.sweep();
+        }
+
+        // Parked at the default asset.history.max-attempts and no longer retried.
+        assertThat(attempts()).isEqualTo(5);
+        assetHistoryWriter.flush();
+        assertThat(attempts()).isEqualTo(5);
+    }
+
+    private void insertPending(long id) {
+        jdbcTemplate.update("INSERT INTO pending_asset_history (id, asset_id, date, status, notes) VALUES (?, ?, ?, ?, ?)",
+                id, ASSET_ID, LocalDate.of(2024, 2, 1), AssetStatus.IN_REPAIR.name(), "Pending " + id);
+    }
+
+    private int attempts() {
+        return jdbcTemplate.queryForObject("SELECT attempts FROM pending_asset_history WHERE id = ?",
+                Integer.class, BAD_ID);
+    }
+}
@@ -0,0 +1,76 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.JmhBenchmarks;
+import com.assetmanagement.dto.AssetDTO;
+import com.assetmanagement.model.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures mapping an asset with its full history to the {@link AssetDTO}
+ * returned by {@code GET /api/assets/{id}}, for histories of growing length.
+ * <pre>
+ * mvn test -Dtest=AssetMappingBenchmark -Dbenchmark.jmh=true
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssetMappingBenchmark {
+    @Param({"0", "10", "100", "1000"})
+    public int historySize;
+
+    private AssetService assetService;
+    private Asset asset;
+
+    @Setup
+    public void setUp() {
+        // Mapping touches none of the service's collaborators.
+        assetService = new AssetService(null, null, null, null, null, null, null, null, null, null, null, null);
+        User user = User.builder().id(7L).name("Benchmark User").email("benchmark@example.com").build();
+        asset = Asset.builder()
+                .id("BM-0001")
+                .name("ThinkPad X1 Carbon")
+                .category(AssetCategory.LAPTOP)
+                .status(AssetStatus.IN_USE)
+                .purchaseDate(LocalDate.of(2023, 3, 1))
+                .assignedUser(user)
+                .notes("Docking station and spare charger")
+                .vendor("Lenovo")
+                .warrantyExpiry(LocalDate.of(2026, 3, 1))
+                .specs("i7-1365U, 32 GB RAM, 1 TB SSD")
+                .version(3L)
+                .build();
+        List<AssetHistory> history = new ArrayList<>(historySize);
+        for (int i = 0; i < historySize; i++) {
+            history.add(AssetHistory.builder()
+                    .id((long) i)
+                    .asset(asset)
+                    .date(LocalDate.of(2023, 3, 1).plusDays(i))
+                    .status(AssetStatus.values()[i % AssetStatus.values().length])
+                    .user(i % 2 == 0 ? user : null)
+                    .notes("History entry " + i)
+                    .build());
+        }
+        asset.setHistory(history);
+    }
+
+    @Benchmark
+    public AssetDTO toDto() {
+        return assetService.convertToDTO(asset);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark.jmh", matches = "true")
+    void run() throws Exception {
+        JmhBenchmarks.run(AssetMappingBenchmark.class);
+    }
+}
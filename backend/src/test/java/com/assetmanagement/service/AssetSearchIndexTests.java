@@ -0,0 +1,112 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.dto.AssetSearchDocument;
+import com.assetmanagement.model.AssetCategory;
+import com.assetmanagement.model.AssetStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssetSearchIndexTests {
+    private AssetSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AssetSearchIndex();
+        index.put(document("LAP-001", "Dell Latitude 7440", 1L, "Alice Martin", "Dell", "16GB RAM"));
+        index.put(document("LAP-002", "Lenovo ThinkPad X1", 2L, "Bob Stone", "Lenovo", "32GB RAM"));
+        index.put(document("MON-001", "Dell UltraSharp Monitor", null, null, "Dell", "27 inch"));
+    }
+
+    @Test
+    void ranksExactNameMatchesAboveVendorMatches() {
+        index.put(document("PRN-001", "HP LaserJet", null, null, "Latitude Supplies", null));
+
+        assertThat(ids("latitude")).containsExactly("LAP-001", "PRN-001");
+    }
+
+    @Test
+    void matchesPrefixesInfixesAndTypos() {
+        assertThat(ids("think")).containsExactly("LAP-002");
+        assertThat(ids("sharp")).containsExactly("MON-001");
+        assertThat(ids("lattitude")).containsExactly("LAP-001");
+    }
+
+    @Test
+    void correctsShortTermsOnlyThroughASharedBigram() {
+        assertThat(ids("ran")).containsExactly("LAP-002", "LAP-001");
+        // "rem" is one edit from "ram" but shares none of its bigrams.
+        assertThat(ids("rem")).isEmpty();
+    }
+
+    @Test
+    void requiresEveryTermToMatch() {
+        assertThat(ids("dell")).containsExactly("MON-001", "LAP-001");
+        assertThat(ids("dell monitor")).containsExactly("MON-001");
+    }
+
+    @Test
+    void followsAssigneeRenamesAndRemovals() {
+        index.renameAssignee(1L, "Alice Durand");
+        assertThat(ids("martin")).isEmpty();
+        assertThat(ids("durand")).containsExactly("LAP-001");
+
+        index.removeAssignee(2L);
+        assertThat(ids("lenovo")).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void replacesAndRemovesDocuments() {
+        index.put(document("LAP-001", "HP EliteBook", 1L, "Alice Martin", "HP", null));
+        assertThat(ids("latitude")).isEmpty();
+        assertThat(ids("elitebook")).containsExactly("LAP-001");
+
+        index.remove("LAP-001");
+        assertThat(ids("elitebook")).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void reclaimsSlotsAndTokensOfRemovedDocuments() {
+        int vocabulary = index.vocabularySize();
+        int capacity = index.docCapacity();
+
+        for (int i = 0; i < 100; i++) {
+            String id = "TMP-" + i;
+            index.put(document(id, "Churn Model" + i, null, null, "Vendor" + i, "Spec" + i));
+            index.put(document(id, "Renamed Model" + i, null, null, "Vendor" + i, "Spec" + i));
+            index.remove(id);
+        }
+
+        assertThat(index.vocabularySize()).isEqualTo(vocabulary);
+        assertThat(index.docCapacity()).isEqualTo(capacity + 1);
+        assertThat(ids("churn")).isEmpty();
+        assertThat(ids("model42")).isEmpty();
+        // Recycled ids keep the vocabulary and the postings consistent.
+        index.put(document("LAP-003", "Dell Precision", null, null, "Dell", "64GB RAM"));
+        assertThat(ids("dell")).containsExactly("MON-001", "LAP-003", "LAP-001");
+        assertThat(ids("precisoin")).containsExactly("LAP-003");
+        assertThat(ids("ram")).containsExactly("LAP-003", "LAP-002", "LAP-001");
+    }
+
+    private List<String> ids(String query) {
+        return index.search(query).stream().map(hit -> hit.summary().getId()).toList();
+    }
+
+    private static AssetSearchDocument document(String id, String name, Long assignedTo, String assigneeName,
+                                                String vendor, String specs) {
+        return AssetSearchDocument.builder()
+                .id(id)
+                .name(name)
+                .category(AssetCategory.values()[0])
+                .status(AssetStatus.values()[0])
+                .assignedTo(assignedTo)
+                .assigneeName(assigneeName)
+                .vendor(vendor)
+                .specs(specs)
+                .build();
+    }
+}
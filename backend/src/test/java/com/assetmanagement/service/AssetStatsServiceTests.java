@@ -0,0 +1,114 @@
+package com.assetmanagement.service;
+
+import com.assetmanagement.dto.AssetStatsDTO;
+import com.assetmanagement.dto.AssetSummaryDTO;
+import com.assetmanagement.event.AssetChangeEvent;
+import com.assetmanagement.event.UserChangeEvent;
+import com.assetmanagement.model.AssetCategory;
+import com.assetmanagement.model.AssetStatus;
+import com.assetmanagement.repository.AssetRepository;
+import com.assetmanagement.repository.GroupCount;
+import com.assetmanagement.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class AssetStatsServiceTests {
+    private AssetRepository assetRepository;
+    private PlatformTransactionManager transactionManager;
+    private AssetStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        assetRepository = mock(AssetRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        statsService = new AssetStatsService(assetRepository, mock(UserRepository.class), transactionManager);
+        ReflectionTestUtils.setField(statsService, "warrantyWindows", List.of(30));
+    }
+
+    @Test
+    void changesCommittedWhileReconcilingAreAppliedToTheRebuiltCounters() {
+        statsService.reconcile();
+        assertThat(statsService.getStats().getTotal()).isZero();
+
+        // The snapshot already holds one asset; a second one commits while the other buckets are counted.
+        when(assetRepository.countGroupedByStatus()).thenReturn(List.of(count(AssetStatus.IN_USE, 1)));
+        when(assetRepository.countGroupedByCategory()).thenAnswer(invocation -> {
+            statsService.onAssetChange(AssetChangeEvent.created(asset("STATS-2", AssetStatus.IN_STORAGE), 0L));
+            return List.of(count(AssetCategory.LAPTOP, 1));
+        });
+        statsService.reconcile();
+
+        AssetStatsDTO stats = statsService.getStats();
+        assertThat(stats.getTotal()).isEqualTo(2);
+        assertThat(stats.getByStatus().get(AssetStatus.IN_USE)).isEqualTo(1);
+        assertThat(stats.getByStatus().get(AssetStatus.IN_STORAGE)).isEqualTo(1);
+        assertThat(stats.getByCategory().get(AssetCategory.LAPTOP)).isEqualTo(2);
+        assertThat(stats.getUnassigned()).isEqualTo(2);
+    }
+
+    @Test
+    void changesCommittedBeforeTheFirstBuildAreNotLost() {
+        when(assetRepository.countGroupedByStatus()).thenAnswer(invocation -> {
+            statsService.onAssetChange(AssetChangeEvent.created(asset("STATS-1", AssetStatus.IN_REPAIR), 0L));
+            return List.of();
+        });
+
+        statsService.reconcile();
+
+        assertThat(statsService.getStats().getByStatus().get(AssetStatus.IN_REPAIR)).isEqualTo(1);
+    }
+
+    @Test
+    void countsInOneRepeatableReadSnapshotWhenBuiltOnFirstRead() {
+        statsService.getStats();
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().getPropagationBehavior())
+                .isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        assertThat(definition.getValue().getIsolationLevel()).isEqualTo(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        assertThat(definition.getValue().isReadOnly()).isTrue();
+    }
+
+    @Test
+    void deletingAUserDoesNotRebuild() {
+        statsService.reconcile();
+        clearInvocations(assetRepository, transactionManager);
+
+        statsService.onUserChange(new UserChangeEvent(UserChangeEvent.Type.DELETED, 1L, null, null));
+
+        verifyNoInteractions(assetRepository, transactionManager);
+        assertThat(statsService.getStats().getTotal()).isZero();
+    }
+
+    private static AssetSummaryDTO asset(String id, AssetStatus status) {
+        return AssetSummaryDTO.builder()
+                .id(id)
+                .status(status)
+                .category(AssetCategory.LAPTOP)
+                .vendor("Stats Vendor")
+                .build();
+    }
+
+    private static <K> GroupCount<K> count(K bucket, long total) {
+        return new GroupCount<>() {
+            @Override
+            public K getBucket() {
+                return bucket;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
@@ -1,4 +1,4 @@
-import React, { useState, useEffect } from "react";
+import React, { useState, useEffect, useRef } from "react";
 import { I18nProvider } from "./context/I18nContext";
 import { AuthProvider, useAuth } from "./context/AuthContext";
 import LoginPage from "./pages/LoginPage";
@@ -7,7 +7,7 @@ import Header from "./components/layout/Header";
 import DashboardPage from "./pages/DashboardPage";
 import AssetsPage from "./pages/AssetsPage";
 import UsersPage from "./pages/UsersPage";
-import { assetsApi, usersApi, departmentsApi } from "./services/api";
+import { assetsApi, usersApi, departmentsApi, type AssetFilter } from "./services/api";
 import type { Asset, User, Department } from "../types";
 import DepartmentsPage from "./pages/DepartmentsPage";
 import { Navigate, Route, Routes } from "react-router-dom";
@@ -16,27 +16,60 @@ import SettingsPage from "./pages/SettingsPage";
 const MainApp: React.FC = () => {
   const { isAuthenticated, loading: authLoading } = useAuth();
   const [assets, setAssets] = useState<Asset[]>([]);
+  const [assetsCursor, setAssetsCursor] = useState<string | null>(null);
+  const [assetFilter, setAssetFilter] = useState<AssetFilter>({ search: "", status: "all" });
   const [users, setUsers] = useState<User[]>([]);
   const [departments, setDepartments] = useState<Department[]>([]);
+  // Bumped per asset query, so a slow response to an older filter cannot overwrite a newer one.
+  const assetsRequest = useRef(0);
   useEffect(() => {
     if (isAuthenticated) {
-      loadData();
+      loadUsersAndDepartments();
     }
   }, [isAuthenticated]);
-  const loadData = async () => {
+  useEffect(() => {
+    if (isAuthenticated) {
+      loadAssets();
+    }
+  }, [isAuthenticated, assetFilter]);
+  const loadAssets = async () => {
+    const request = ++assetsRequest.current;
+    try {
+      const page = await assetsApi.getPage(assetFilter.search, assetFilter.status);
+      if (request !== assetsRequest.current) return;
+      setAssets(page.assets);
+      setAssetsCursor(page.nextCursor);
+    } catch (err) {
+      console.error("Failed to load assets:", err);
+    }
+  };
+  const loadUsersAndDepartments = async () => {
     try {
-      const [assetsData, usersData, departmentsData] = await Promise.all([
-        assetsApi.getAll(),
+      const [usersData, departmentsData] = await Promise.all([
         usersApi.getAll(),
         departmentsApi.getAll(),
       ]);
-      setAssets(assetsData);
       setUsers(usersData);
       setDepartments(departmentsData);
     } catch (err) {
       console.error("Failed to load data:", err);
     }
   };
+  const loadData = async () => {
+    await Promise.all([loadAssets(), loadUsersAndDepartments()]);
+  };
+  const loadMoreAssets = async () => {
+    if (!assetsCursor) return;
+    const request = assetsRequest.current;
+    try {
+      const page = await assetsApi.getPage(assetFilter.search, assetFilter.status, assetsCursor);
+      if (request !== assetsRequest.current) return;
+      setAssets((current) => [...current, ...page.assets]);
+      setAssetsCursor(page.nextCursor);
+    } catch (err) {
+      console.error("Failed to load more assets:", err);
+    }
+  };
   if (authLoading) {
     return (
       <div className="flex items-center justify-center h-screen bg-slate-100 dark:bg-slate-900">
@@ -67,7 +100,6 @@ const MainApp: React.FC = () => {
               path="/dashboard"
               element={
                 <DashboardPage
-                  assets={assets}
                   users={users}
                   departments={departments}
                 />
@@ -81,6 +113,10 @@ const MainApp: React.FC = () => {
                   setAssets={setAssets}
                   users={users}
                   onRefresh={loadData}
+                  hasMore={assetsCursor !== null}
+                  onLoadMore={loadMoreAssets}
+                  filter={assetFilter}
+                  onFilterChange={setAssetFilter}
                 />
               }
             />
@@ -7,13 +7,13 @@ import {
   Legend,
   ResponsiveContainer,
 } from "recharts";
-import type { Asset, User, Department } from "../../../types";
+import type { Department } from "../../../types";
 import Card from "../ui/Card";
 import { useI18n } from "../../context/I18nContext";
 
 interface AssetDepartmentChartProps {
-  assets: Asset[];
-  users: User[];
+  byDepartment: Record<string, number>;
+  unassigned: number;
   departments: Department[];
 }
 
@@ -28,32 +28,21 @@ const COLORS = [
 ];
 
 const AssetDepartmentChart: React.FC<AssetDepartmentChartProps> = ({
-  assets,
-  users,
+  byDepartment,
+  unassigned,
 }) => {
     const { t } = useI18n();
   
   const data = useMemo(() => {
-    const departmentMap = new Map<string, number>();
-
-    assets.forEach((asset) => {
-      let departmentName = "Unassigned";
-      if (asset.assignedTo) {
-        const user = users.find((u) => u.id === asset.assignedTo);
-        if (user) {
-          departmentName = user.departmentName || "Unknown";
-        }
-      }
-      departmentMap.set(
-        departmentName,
-        (departmentMap.get(departmentName) || 0) + 1
-      );
-    });
+    const departmentMap = new Map<string, number>(Object.entries(byDepartment));
+    if (unassigned > 0) {
+      departmentMap.set("Unassigned", unassigned);
+    }
 
     return Array.from(departmentMap.entries())
       .map(([name, value]) => ({ name, value }))
       .sort((a, b) => b.value - a.value);
-  }, [assets, users]);
+  }, [byDepartment, unassigned]);
 
   return (
     <Card className="p-4 h-full">
@@ -7,12 +7,12 @@ import {
   Legend,
   ResponsiveContainer,
 } from "recharts";
-import { type Asset, AssetStatus } from "../../../types";
+import { AssetStatus } from "../../../types";
 import Card from "../ui/Card";
 import { useI18n } from "../../context/I18nContext";
 
 interface AssetStatusChartProps {
-  assets: Asset[];
+  byStatus: Partial<Record<AssetStatus, number>>;
 }
 
 const COLORS = {
@@ -22,19 +22,16 @@ const COLORS = {
   [AssetStatus.Decommissioned]: "#ef4444", // red-500
 };
 
-const AssetStatusChart: React.FC<AssetStatusChartProps> = ({ assets }) => {
+const AssetStatusChart: React.FC<AssetStatusChartProps> = ({ byStatus }) => {
   const { t } = useI18n();
   const data = useMemo(() => {
-    const statusCounts = assets.reduce((acc, asset) => {
-      acc[asset.status] = (acc[asset.status] || 0) + 1;
-      return acc;
-    }, {} as Record<AssetStatus, number>);
-
-    return Object.entries(statusCounts).map(([name, value]) => ({
-      name: name as AssetStatus,
-      value,
-    }));
-  }, [assets]);
+    return Object.entries(byStatus)
+      .filter(([, value]) => value)
+      .map(([name, value]) => ({
+        name: name as AssetStatus,
+        value,
+      }));
+  }, [byStatus]);
 
   return (
     <Card className="p-4 h-full">
@@ -146,7 +146,7 @@ const AssetDetailPage: React.FC<AssetDetailPageProps> = ({
             </div>
             <div className="p-4 max-h-96 overflow-y-auto">
               <ul className="divide-y divide-slate-200 dark:divide-slate-700">
-                {asset.history
+                {(asset.history ?? [])
                   .slice()
                   .sort(
                     (a, b) =>
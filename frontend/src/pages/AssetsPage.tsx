@@ -1,4 +1,4 @@
-import React, { useState, useMemo } from "react";
+import React, { useState, useEffect } from "react";
 import { type Asset, type User, AssetStatus } from "../../types";
 import AssetTable from "../components/assets/AssetTable";
 import AssetModal from "../components/assets/AssetModal";
@@ -7,7 +7,7 @@ import AssetDetailPage from "./AssetDetailPage";
 import Button from "../components/ui/Button";
 import Input from "../components/ui/Input";
 import Select from "../components/ui/Select";
-import { assetsApi } from "../services/api";
+import { assetsApi, type AssetFilter } from "../services/api";
 import { useNavigate } from "react-router-dom";
 import { useI18n } from "../context/I18nContext";
 
@@ -16,13 +16,23 @@ interface AssetsPageProps {
   setAssets: React.Dispatch<React.SetStateAction<Asset[]>>;
   users: User[];
   onRefresh: () => Promise<void>;
+  hasMore: boolean;
+  onLoadMore: () => Promise<void>;
+  filter: AssetFilter;
+  onFilterChange: (filter: AssetFilter) => void;
 }
 
+const SEARCH_DELAY_MS = 300;
+
 const AssetsPage: React.FC<AssetsPageProps> = ({
   
   assets,
   users,
   onRefresh,
+  hasMore,
+  onLoadMore,
+  filter,
+  onFilterChange,
 }) => {
   const { t } = useI18n();
   const [isModalOpen, setIsModalOpen] = useState(false);
@@ -30,23 +40,31 @@ const AssetsPage: React.FC<AssetsPageProps> = ({
   const [editingAsset, setEditingAsset] = useState<Asset | null>(null);
   const [viewingAsset, setViewingAsset] = useState<Asset | null>(null);
   const [selectedAsset, setSelectedAsset] = useState<Asset | null>(null);
-  const [searchTerm, setSearchTerm] = useState("");
-  const [statusFilter, setStatusFilter] = useState<AssetStatus | "all">("all");
+  const [searchTerm, setSearchTerm] = useState(filter.search);
   const [saving, setSaving] = useState(false);
+  const [loadingMore, setLoadingMore] = useState(false);
   const navigate = useNavigate();
   const openModalForNew = () => {
     setEditingAsset(null);
     setIsModalOpen(true);
   };
 
-  const openModalForEdit = (asset: Asset) => {
-    setEditingAsset(asset);
-    setIsModalOpen(true);
+  const openModalForEdit = async (asset: Asset) => {
+    try {
+      setEditingAsset(await assetsApi.getById(asset.id));
+      setIsModalOpen(true);
+    } catch (error) {
+      console.error("Failed to load asset details:", error);
+    }
   };
 
-  const openHistoryModal = (asset: Asset) => {
-    setViewingAsset(asset);
-    setIsHistoryModalOpen(true);
+  const openHistoryModal = async (asset: Asset) => {
+    try {
+      setViewingAsset(await assetsApi.getById(asset.id));
+      setIsHistoryModalOpen(true);
+    } catch (error) {
+      console.error("Failed to load asset details:", error);
+    }
   };
 
   const handleSelectAsset = async (asset: Asset) => {
@@ -80,7 +98,11 @@ const AssetsPage: React.FC<AssetsPageProps> = ({
       closeModal();
     } catch (error) {
       console.error("Failed to save asset:", error);
-      alert("Failed to save asset. Please try again.");
+      if ((error as { status?: number }).status === 412) {
+        alert("Someone else changed this asset while you were editing it. Reopen it to see their changes.");
+      } else {
+        alert("Failed to save asset. Please try again.");
+      }
     } finally {
       setSaving(false);
     }
@@ -98,16 +120,22 @@ const AssetsPage: React.FC<AssetsPageProps> = ({
     }
   };
 
-  const filteredAssets = useMemo(() => {
-    return assets.filter((asset) => {
-      const matchesSearch = asset.name
-        .toLowerCase()
-        .includes(searchTerm.toLowerCase());
-      const matchesStatus =
-        statusFilter === "all" || asset.status === statusFilter;
-      return matchesSearch && matchesStatus;
-    });
-  }, [assets, searchTerm, statusFilter]);
+  const handleLoadMore = async () => {
+    setLoadingMore(true);
+    try {
+      await onLoadMore();
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+  // Searching runs on the server; wait for a pause in typing before asking it.
+  useEffect(() => {
+    const search = searchTerm.trim();
+    if (search === filter.search) return;
+    const timer = setTimeout(() => onFilterChange({ ...filter, search }), SEARCH_DELAY_MS);
+    return () => clearTimeout(timer);
+  }, [searchTerm, filter, onFilterChange]);
 
   if (selectedAsset) {
     return (
@@ -146,9 +174,9 @@ const AssetsPage: React.FC<AssetsPageProps> = ({
         <Select
           label={t("assets.filterStatus")}
           id="statusFilter"
-          value={statusFilter}
+          value={filter.status}
           onChange={(e) =>
-            setStatusFilter(e.target.value as AssetStatus | "all")
+            onFilterChange({ ...filter, status: e.target.value as AssetStatus | "all" })
           }
         >
           <option value="all">{t("assets.allStatuses")}</option>
@@ -162,7 +190,7 @@ const AssetsPage: React.FC<AssetsPageProps> = ({
 
         
       <AssetTable
-        assets={filteredAssets}
+        assets={assets}
         users={users}
         onEdit={openModalForEdit}
         onDelete={handleDeleteAsset}
@@ -170,6 +198,14 @@ const AssetsPage: React.FC<AssetsPageProps> = ({
         onSelectAsset={handleSelectAsset}
       />
 
+      {hasMore && (
+        <div className="flex justify-center mt-4">
+          <Button variant="secondary" onClick={handleLoadMore} disabled={loadingMore}>
+            {t("assets.loadMore")}
+          </Button>
+        </div>
+      )}
+
         
       <AssetModal
         isOpen={isModalOpen}
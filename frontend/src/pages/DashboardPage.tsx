@@ -1,11 +1,14 @@
-import React, { useMemo } from "react";
+import React, { useEffect, useState } from "react";
 import StatCard from "../components/dashboard/StatCard";
 import AssetStatusChart from "../components/dashboard/AssetStatusChart";
 import RecentAssetsTable from "../components/dashboard/RecentAssetsTable";
 import AssetDepartmentChart from "../components/dashboard/AssetDepartmentChart";
-import { type Asset, type User, type Department, AssetStatus } from "../../types";
+import { type Asset, type AssetStats, type User, type Department, AssetStatus } from "../../types";
+import { assetsApi } from "../services/api";
 import { useI18n } from "../context/I18nContext";
 
+const RECENT_ASSETS = 5;
+
 const TotalAssetsIcon = () => (
   <div className="p-3 rounded-full bg-red-100 dark:bg-red-900 text-primary-600 dark:text-primary-300">
     <svg
@@ -80,30 +83,38 @@ const TotalUsersIcon = () => (
 );
 
 interface DashboardPageProps {
-  assets: Asset[];
   users: User[];
   departments: Department[];
 }
 
-const DashboardPage: React.FC<DashboardPageProps> = ({ assets, users, departments }) => {
+const DashboardPage: React.FC<DashboardPageProps> = ({ users, departments }) => {
   const { t } = useI18n();
-  const stats = useMemo(() => {
-    const totalAssets = assets.length;
-    const assetsInUse = assets.filter(
-      (a) => a.status === AssetStatus.InUse
-    ).length;
-    const assetsInRepair = assets.filter(
-      (a) => a.status === AssetStatus.InRepair
-    ).length;
-    const totalUsers = users.length;
+  // Counted by the server over every asset; the asset list only holds the pages loaded so far.
+  const [assetStats, setAssetStats] = useState<AssetStats | null>(null);
+  const [recentAssets, setRecentAssets] = useState<Asset[]>([]);
 
-    return {
-      totalAssets,
-      assetsInUse,
-      assetsInRepair,
-      totalUsers,
+  useEffect(() => {
+    const load = async () => {
+      try {
+        const [statsData, recentData] = await Promise.all([
+          assetsApi.getStats(),
+          assetsApi.getRecent(RECENT_ASSETS),
+        ]);
+        setAssetStats(statsData);
+        setRecentAssets(recentData);
+      } catch (err) {
+        console.error("Failed to load dashboard:", err);
+      }
     };
-  }, [assets, users]);
+    load();
+  }, []);
+
+  const stats = {
+    totalAssets: assetStats?.total ?? 0,
+    assetsInUse: assetStats?.byStatus[AssetStatus.InUse] ?? 0,
+    assetsInRepair: assetStats?.byStatus[AssetStatus.InRepair] ?? 0,
+    totalUsers: users.length,
+  };
 
   return (
     <div className="container mx-auto">
@@ -135,12 +146,16 @@ const DashboardPage: React.FC<DashboardPageProps> = ({ assets, users, department
       </div>
 
       <div className="grid grid-cols-1 lg:grid-cols-2 gap-6 mb-6">
-        <AssetStatusChart assets={assets} />
-        <AssetDepartmentChart assets={assets} users={users} departments={departments} />
+        <AssetStatusChart byStatus={assetStats?.byStatus ?? {}} />
+        <AssetDepartmentChart
+          byDepartment={assetStats?.byDepartment ?? {}}
+          unassigned={assetStats?.unassigned ?? 0}
+          departments={departments}
+        />
       </div>
 
       <div className="grid grid-cols-1 gap-6">
-        <RecentAssetsTable assets={assets} users={users} />
+        <RecentAssetsTable assets={recentAssets} users={users} />
       </div>
     </div>
   );
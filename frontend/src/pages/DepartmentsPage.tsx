@@ -46,7 +46,7 @@ const DepartmentsPage: React.FC<DepartmentsPageProps> = ({
       if (editingDepartment) {
         await departmentsApi.update(editingDepartment.id, deptData);
       } else {
-        const { id, employeeCount, ...newDepartment } = deptData as Department;
+        const { id, employeeCount, assetCount, ...newDepartment } = deptData as Department;
         await departmentsApi.create(newDepartment);
       }
       
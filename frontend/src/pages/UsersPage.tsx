@@ -64,18 +64,18 @@ const UsersPage: React.FC<UsersPageProps> = ({
   };
 
   const handleDeleteUser = async (userId: number) => {
-    if (assets.some((a) => a.assignedTo === userId)) {
-      alert("Cannot delete user. Please reassign their assets first.");
-      return;
-    }
-    
+    // The server refuses while any asset is still assigned, including ones not loaded here.
     if (window.confirm("Are you sure you want to delete this user?")) {
       try {
         await usersApi.delete(userId);
         await onRefresh();
       } catch (error) {
         console.error("Failed to delete user:", error);
-        alert("Failed to delete user. Please try again.");
+        if ((error as { status?: number }).status === 400) {
+          alert("Cannot delete user. Please reassign their assets first.");
+        } else {
+          alert("Failed to delete user. Please try again.");
+        }
       }
     }
   };
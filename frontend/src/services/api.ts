@@ -1,7 +1,23 @@
-import type { Asset, User, AssetStatus, Department, LoginRequest, LoginResponse } from "../../types";
+import type { Asset, AssetStats, User, AssetStatus, Department, LoginRequest, LoginResponse } from "../../types";
 
 export const API_BASE_URL = import.meta.env.VITE_API_BASE_URL;
 
+const ASSET_PAGE_SIZE = 100;
+
+export interface AssetPage {
+  assets: Asset[];
+  nextCursor: string | null;
+}
+
+// Applied by the server, so it covers every asset rather than the pages loaded so far.
+export interface AssetFilter {
+  search: string;
+  status: AssetStatus | "all";
+}
+
+// The status query parameter takes the enum constant ("IN_REPAIR"), not the display name.
+const statusParam = (status: AssetStatus): string => status.toUpperCase().replace(/ /g, "_");
+
 class ApiError extends Error {
   constructor(public status: number, message: string) {
     super(message);
@@ -72,18 +88,41 @@ export const authApi = {
 };
 
 export const assetsApi = {
-  async getAll(search?: string, status?: AssetStatus): Promise<Asset[]> {
+  // Fetches one page; pass the returned nextCursor back to get the page after it.
+  async getPage(search?: string, status?: AssetStatus | "all", cursor?: string | null): Promise<AssetPage> {
     const params = new URLSearchParams();
     if (search) params.append("search", search);
-    if (status && status !== "all") params.append("status", status);
+    if (status && status !== "all") params.append("status", statusParam(status));
+    if (cursor) params.append("cursor", cursor);
+    params.append("limit", String(ASSET_PAGE_SIZE));
+
+    const response = await fetch(`${API_BASE_URL}/assets?${params}`, {
+      headers: getHeaders(),
+    });
+    const assets = await handleResponse<Asset[]>(response);
+    return { assets, nextCursor: response.headers.get("X-Next-Cursor") };
+  },
 
-    const url = `${API_BASE_URL}/assets${params.toString() ? `?${params}` : ""}`;
-    const response = await fetch(url, {
+  // The most recently purchased assets, newest first.
+  async getRecent(limit: number): Promise<Asset[]> {
+    const params = new URLSearchParams({
+      sort: "purchaseDate",
+      direction: "desc",
+      limit: String(limit),
+    });
+    const response = await fetch(`${API_BASE_URL}/assets?${params}`, {
       headers: getHeaders(),
     });
     return handleResponse<Asset[]>(response);
   },
 
+  async getStats(): Promise<AssetStats> {
+    const response = await fetch(`${API_BASE_URL}/assets/stats`, {
+      headers: getHeaders(),
+    });
+    return handleResponse<AssetStats>(response);
+  },
+
   async getById(id: string): Promise<Asset> {
     const response = await fetch(`${API_BASE_URL}/assets/${id}`, {
       headers: getHeaders(),
@@ -111,9 +150,16 @@ export const assetsApi = {
       assignedTo: asset.assignedTo || null,
     };
 
+    // Only apply the edit if nobody has changed the asset since it was loaded;
+    // otherwise the server answers 412 Precondition Failed.
+    const headers = getHeaders() as Record<string, string>;
+    if (asset.version !== undefined && asset.version !== null) {
+      headers["If-Match"] = `"${asset.version}"`;
+    }
+
     const response = await fetch(`${API_BASE_URL}/assets/${id}`, {
       method: "PUT",
-      headers: getHeaders(),
+      headers,
       body: JSON.stringify(cleanedAsset),
     });
     return handleResponse<Asset>(response);
@@ -186,7 +232,7 @@ export const departmentsApi = {
     return handleResponse<Department>(response);
   },
 
-  async create(department: Omit<Department, "id" | "employeeCount">): Promise<Department> {
+  async create(department: Omit<Department, "id" | "employeeCount" | "assetCount">): Promise<Department> {
     const response = await fetch(`${API_BASE_URL}/departments`, {
       method: "POST",
       headers: getHeaders(),
@@ -38,13 +38,27 @@ export interface Asset {
   vendor: string;
   warrantyExpiry?: string;
   specs?: string;
-  history: AssetHistory[];
+  history?: AssetHistory[];
+  version?: number;
+}
+
+// Counts over the whole inventory, from GET /api/assets/stats.
+export interface AssetStats {
+  total: number;
+  byStatus: Partial<Record<AssetStatus, number>>;
+  byCategory: Partial<Record<AssetCategory, number>>;
+  byVendor: Record<string, number>;
+  byDepartment: Record<string, number>;
+  unassigned: number;
+  warrantyExpiringWithinDays: Record<string, number>;
+  reconciledAt?: string;
 }
 
 export interface Department {
   id: number;
   name: string;
   employeeCount: number;
+  assetCount?: number;
 }
 
 export interface User {